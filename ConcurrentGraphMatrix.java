@@ -0,0 +1,342 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Grafo dirigido con matriz de adyacencia seguro para varios hilos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: misma interfaz que GraphMatrixDirected, con lecturas sin bloqueo y escrituras por franjas de filas
+ */
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Variante concurrente de GraphMatrixDirected:
+ * - las celdas de la matriz están en un AtomicReferenceArray, así que getEdge() y containsEdge()
+ *   no toman ningún bloqueo;
+ * - addEdge() y removeEdge() solo bloquean la franja de la fila de origen (fila % número de franjas),
+ *   de modo que hilos que escriben filas distintas no compiten entre sí;
+ * - los vértices se guardan en un ConcurrentHashMap y los índices libres en un mapa de bits que se
+ *   reclama con compareAndSet, sin bloqueo.
+ * removeVertex() y snapshot() toman todas las franjas en orden creciente, por lo que nunca se bloquean
+ * entre sí y la copia que devuelve snapshot() corresponde a un único instante.
+ * A diferencia de GraphMatrixDirected la capacidad es fija: crecer exigiría detener a los lectores.
+ */
+public class ConcurrentGraphMatrix<V, E> {
+    private final int size;
+    private final AtomicReferenceArray<E> cells;
+    private final AtomicReferenceArray<V> labels;
+    private final ConcurrentHashMap<V, GraphMatrixDirected.Vertex<V>> dict;
+    private final AtomicLongArray freeBits;
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Constructor que inicializa el grafo con una franja por fila, hasta 64 franjas.
+     * @param size Capacidad del grafo.
+     */
+    public ConcurrentGraphMatrix(int size) {
+        this(size, Math.max(1, Math.min(size, 64)));
+    }
+
+    /**
+     * Constructor que inicializa el grafo con un número de franjas específico.
+     * @param size Capacidad del grafo.
+     * @param stripeCount Número de bloqueos entre los que se reparten las filas.
+     */
+    public ConcurrentGraphMatrix(int size, int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Debe haber al menos una franja");
+        }
+        this.size = size;
+        this.cells = new AtomicReferenceArray<>(HeapIntMatrix.checkedLength(size));
+        this.labels = new AtomicReferenceArray<>(size);
+        this.dict = new ConcurrentHashMap<>(Math.max(16, size * 2));
+        this.freeBits = new AtomicLongArray((size + 63) >>> 6);
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int s = 0; s < stripeCount; s++) {
+            stripes[s] = new ReentrantLock();
+        }
+
+        for (int i = 0; i < size; i++) {
+            freeBits.set(i >>> 6, freeBits.get(i >>> 6) | (1L << i));
+        }
+    }
+
+    /**
+     * Copia consistente de la matriz de pesos, con las etiquetas de cada índice en ese mismo instante.
+     */
+    public static class Snapshot<V> {
+        private final HeapIntMatrix weights;
+        private final Object[] labels;
+
+        private Snapshot(HeapIntMatrix weights, Object[] labels) {
+            this.weights = weights;
+            this.labels = labels;
+        }
+
+        /**
+         * Método que devuelve la matriz de pesos, lista para Floyd (que puede sobrescribirla).
+         * @return Matriz de capacity() x capacity().
+         */
+        public HeapIntMatrix getWeights() {
+            return weights;
+        }
+
+        /**
+         * Método que devuelve la etiqueta de un índice.
+         * @param index Índice del vértice.
+         * @return Etiqueta, o null si el índice estaba libre.
+         */
+        @SuppressWarnings("unchecked")
+        public V label(int index) {
+            return (V) labels[index];
+        }
+
+        /**
+         * Método que devuelve el número de filas de la copia.
+         * @return Capacidad del grafo al tomar la copia.
+         */
+        public int size() {
+            return labels.length;
+        }
+    }
+
+    /**
+     * Método que añade un vértice al grafo.
+     * Si dos hilos añaden la misma etiqueta a la vez, solo uno ocupa un índice.
+     * @param label Etiqueta del vértice.
+     */
+    public void addVertex(V label) {
+        if (dict.containsKey(label)) return;
+
+        int index = claimSlot();
+        if (index < 0) {
+            throw new IllegalStateException("El grafo está lleno (capacidad " + size + ")");
+        }
+        labels.set(index, label);
+        if (dict.putIfAbsent(label, new GraphMatrixDirected.Vertex<>(label, index)) != null) {
+            labels.set(index, null);
+            releaseSlot(index);
+        }
+    }
+
+    /**
+     * Método que elimina un vértice del grafo y libera su índice.
+     * @param label Etiqueta del vértice a eliminar.
+     * @return Etiqueta eliminada, o null si no existía.
+     */
+    public V removeVertex(V label) {
+        GraphMatrixDirected.Vertex<V> vertex;
+        int index;
+        lockAll();
+        try {
+            // Se quita del mapa con todas las franjas tomadas: snapshot() ve el vértice completo o nada de él.
+            vertex = dict.remove(label);
+            if (vertex == null) return null;
+
+            index = vertex.index();
+            for (int i = 0; i < size; i++) {
+                cells.set(i * size + index, null);
+                cells.set(index * size + i, null);
+            }
+            labels.set(index, null);
+        } finally {
+            unlockAll();
+        }
+        releaseSlot(index);
+        return vertex.label();
+    }
+
+    /**
+     * Método que añade una arista al grafo o reemplaza su etiqueta.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @param label Etiqueta de la arista (no nula).
+     */
+    public void addEdge(V from, V to, E label) {
+        if (label == null) {
+            throw new IllegalArgumentException("La etiqueta de la arista no puede ser null");
+        }
+        GraphMatrixDirected.Vertex<V> vFrom = dict.get(from);
+        GraphMatrixDirected.Vertex<V> vTo = dict.get(to);
+
+        if (vFrom == null || vTo == null) return;
+
+        ReentrantLock lock = stripeOf(vFrom.index());
+        lock.lock();
+        try {
+            // removeVertex() toma todas las franjas: si los vértices siguen en el mapa, sus índices son válidos.
+            if (dict.get(from) != vFrom || dict.get(to) != vTo) return;
+            cells.set(vFrom.index() * size + vTo.index(), label);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método que elimina una arista del grafo.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return Etiqueta de la arista eliminada, o null si no existía.
+     */
+    public E removeEdge(V from, V to) {
+        GraphMatrixDirected.Vertex<V> vFrom = dict.get(from);
+        GraphMatrixDirected.Vertex<V> vTo = dict.get(to);
+
+        if (vFrom == null || vTo == null) return null;
+
+        ReentrantLock lock = stripeOf(vFrom.index());
+        lock.lock();
+        try {
+            if (dict.get(from) != vFrom || dict.get(to) != vTo) return null;
+            return cells.getAndSet(vFrom.index() * size + vTo.index(), null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Método que verifica si el grafo contiene un vértice.
+     * @param label Etiqueta del vértice.
+     * @return true si el vértice existe, false en caso contrario.
+     */
+    public boolean contains(V label) {
+        return dict.containsKey(label);
+    }
+
+    /**
+     * Método que verifica si el grafo contiene una arista, sin bloqueo.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return true si la arista existe, false en caso contrario.
+     */
+    public boolean containsEdge(V from, V to) {
+        return getEdge(from, to) != null;
+    }
+
+    /**
+     * Método que obtiene una arista del grafo, sin bloqueo.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return Etiqueta de la arista, o null si no existe.
+     */
+    public E getEdge(V from, V to) {
+        GraphMatrixDirected.Vertex<V> vFrom = dict.get(from);
+        GraphMatrixDirected.Vertex<V> vTo = dict.get(to);
+
+        if (vFrom == null || vTo == null) return null;
+
+        return cells.get(vFrom.index() * size + vTo.index());
+    }
+
+    /**
+     * Método que obtiene el índice de un vértice.
+     * @param label Etiqueta del vértice.
+     * @return Índice, o -1 si no existe.
+     */
+    public int getIndex(V label) {
+        GraphMatrixDirected.Vertex<V> vertex = dict.get(label);
+        return vertex != null ? vertex.index() : -1;
+    }
+
+    /**
+     * Método que devuelve las etiquetas de los vértices. El conjunto refleja los cambios
+     * concurrentes y se puede recorrer mientras otros hilos escriben.
+     * @return Conjunto de etiquetas.
+     */
+    public Set<V> vertices() {
+        return dict.keySet();
+    }
+
+    /**
+     * Método que devuelve la capacidad del grafo.
+     * @return Capacidad del grafo.
+     */
+    public int capacity() {
+        return size;
+    }
+
+    /**
+     * Método que copia la matriz de pesos en un único instante consistente.
+     * Toma todas las franjas, así que las escrituras esperan lo que dura la copia, pero las lecturas no.
+     * La diagonal de los índices ocupados queda en 0 y las celdas sin arista en Integer.MAX_VALUE,
+     * como espera Floyd.
+     * @param weight Función que convierte la etiqueta de una arista en su peso.
+     * @return Copia de los pesos y de las etiquetas, indexada por getIndex().
+     */
+    public Snapshot<V> snapshot(ToIntFunction<? super E> weight) {
+        int[] weights = new int[HeapIntMatrix.checkedLength(size)];
+        Object[] names = new Object[size];
+
+        lockAll();
+        try {
+            for (int i = 0; i < size; i++) {
+                V label = labels.get(i);
+                if (label != null && getIndex(label) == i) {
+                    names[i] = label;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                int rowOffset = i * size;
+                for (int j = 0; j < size; j++) {
+                    // Un índice sin nombre no tiene aristas válidas aunque una celda no se haya limpiado aún.
+                    E edge = names[i] == null || names[j] == null ? null : cells.get(rowOffset + j);
+                    weights[rowOffset + j] = edge == null ? Integer.MAX_VALUE : weight.applyAsInt(edge);
+                }
+            }
+        } finally {
+            unlockAll();
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (names[i] != null) weights[i * size + i] = 0;
+        }
+        return new Snapshot<>(new HeapIntMatrix(size, weights), names);
+    }
+
+    private ReentrantLock stripeOf(int row) {
+        return stripes[row % stripes.length];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int s = stripes.length - 1; s >= 0; s--) {
+            stripes[s].unlock();
+        }
+    }
+
+    /**
+     * Método que reclama el menor índice libre, para que los índices se asignen en orden creciente.
+     * @return Índice reclamado, o -1 si no hay índices libres.
+     */
+    private int claimSlot() {
+        for (int w = 0; w < freeBits.length(); w++) {
+            long word = freeBits.get(w);
+            while (word != 0) {
+                long bit = Long.lowestOneBit(word);
+                if (freeBits.compareAndSet(w, word, word & ~bit)) {
+                    return (w << 6) + Long.numberOfTrailingZeros(bit);
+                }
+                word = freeBits.get(w);
+            }
+        }
+        return -1;
+    }
+
+    private void releaseSlot(int index) {
+        long bit = 1L << index;
+        long word;
+        do {
+            word = freeBits.get(index >>> 6);
+        } while (!freeBits.compareAndSet(index >>> 6, word, word | bit));
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Representación dispersa (CSR) de la adyacencia de un grafo dirigido con pesos enteros.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.Arrays;
+
+/**
+ * Adyacencia en formato Compressed Sparse Row: las aristas que salen del vértice u ocupan
+ * las posiciones [offsets[u], offsets[u + 1]) de los arreglos targets y weights.
+ * Es una instantánea inmutable; los cambios posteriores en el grafo de origen no se reflejan.
+ */
+public class CsrGraph {
+    private final int n;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CsrGraph(int n, int[] offsets, int[] targets, int[] weights) {
+        this.n = n;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Método que construye la adyacencia a partir de una matriz de pesos.
+     * Las celdas con Integer.MAX_VALUE y la diagonal se ignoran.
+     * @param matrix Matriz de pesos.
+     * @return Grafo en formato CSR.
+     */
+    public static CsrGraph fromMatrix(IntMatrix matrix) {
+        int n = matrix.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            int degree = 0;
+            for (int j = 0; j < n; j++) {
+                if (i != j && matrix.get(i, j) != Integer.MAX_VALUE) degree++;
+            }
+            offsets[i + 1] = offsets[i] + degree;
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            int e = offsets[i];
+            for (int j = 0; j < n; j++) {
+                int w = matrix.get(i, j);
+                if (i != j && w != Integer.MAX_VALUE) {
+                    targets[e] = j;
+                    weights[e++] = w;
+                }
+            }
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+    /**
+     * Método que construye la adyacencia a partir de un GraphMatrixDirected con pesos enteros.
+     * El vértice order[i] del grafo pasa a ser el índice i del resultado.
+     * @param graph Grafo de origen.
+     * @param order Etiquetas de los vértices en el orden deseado.
+     * @return Grafo en formato CSR.
+     */
+    public static <V> CsrGraph fromGraph(GraphMatrixDirected<V, Integer> graph, V[] order) {
+        int n = order.length;
+        int[] rowOf = new int[n];
+        int[] position = new int[graph.data.length];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < n; i++) {
+            rowOf[i] = graph.getIndex(order[i]);
+            if (rowOf[i] < 0) {
+                throw new IllegalArgumentException("El vértice no existe en el grafo: " + order[i]);
+            }
+            position[rowOf[i]] = i;
+        }
+
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            Object[] row = graph.data[rowOf[i]];
+            int degree = 0;
+            for (int g = 0; g < row.length; g++) {
+                if (row[g] != null && position[g] >= 0 && position[g] != i) degree++;
+            }
+            offsets[i + 1] = offsets[i] + degree;
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            Object[] row = graph.data[rowOf[i]];
+            int e = offsets[i];
+            for (int g = 0; g < row.length; g++) {
+                if (row[g] != null && position[g] >= 0 && position[g] != i) {
+                    @SuppressWarnings("unchecked")
+                    GraphMatrixDirected.Edge<V, Integer> edge = (GraphMatrixDirected.Edge<V, Integer>) row[g];
+                    targets[e] = position[g];
+                    weights[e++] = edge.label();
+                }
+            }
+        }
+        return new CsrGraph(n, offsets, targets, weights);
+    }
+
+    /**
+     * Método que construye el grafo traspuesto (todas las aristas invertidas).
+     * Dijkstra sobre el traspuesto desde t calcula las distancias de cada vértice hacia t.
+     * @return Grafo traspuesto en formato CSR.
+     */
+    public CsrGraph transpose() {
+        int[] tOffsets = new int[n + 1];
+        for (int e = 0; e < targets.length; e++) {
+            tOffsets[targets[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            tOffsets[v + 1] += tOffsets[v];
+        }
+
+        int[] fill = Arrays.copyOf(tOffsets, n);
+        int[] tTargets = new int[targets.length];
+        int[] tWeights = new int[targets.length];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = fill[targets[e]]++;
+                tTargets[slot] = u;
+                tWeights[slot] = weights[e];
+            }
+        }
+        return new CsrGraph(n, tOffsets, tTargets, tWeights);
+    }
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Método que devuelve el número de aristas.
+     * @return Número de aristas.
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Método que devuelve la posición de la primera arista que sale de u.
+     * @param u Vértice.
+     * @return Índice de inicio en targets/weights.
+     */
+    public int firstEdge(int u) {
+        return offsets[u];
+    }
+
+    /**
+     * Método que devuelve la posición siguiente a la última arista que sale de u.
+     * @param u Vértice.
+     * @return Índice de fin (exclusivo) en targets/weights.
+     */
+    public int endEdge(int u) {
+        return offsets[u + 1];
+    }
+
+    /**
+     * Método que devuelve el destino de una arista.
+     * @param e Índice de la arista.
+     * @return Vértice de destino.
+     */
+    public int target(int e) {
+        return targets[e];
+    }
+
+    /**
+     * Método que devuelve el peso de una arista.
+     * @param e Índice de la arista.
+     * @return Peso de la arista.
+     */
+    public int weight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * Método que indica si alguna arista tiene peso negativo.
+     * @return true si hay pesos negativos.
+     */
+    public boolean hasNegativeWeights() {
+        for (int w : weights) {
+            if (w < 0) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Algoritmo de Dijkstra de un solo origen sobre adyacencia CSR.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra de un solo origen con montículo primitivo. Los arreglos de trabajo los aporta quien llama
+ * para poder reutilizarlos entre orígenes sin generar basura.
+ */
+public final class Dijkstra {
+    /** Distancia de los vértices no alcanzables. */
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private Dijkstra() {
+    }
+
+    /**
+     * Método que calcula las distancias desde un origen.
+     * Si se pasan potenciales h, se usan los pesos reducidos w(u, v) + h[u] - h[v] (reponderación de Johnson),
+     * que deben ser no negativos; dist queda expresado en esos pesos reducidos.
+     * @param graph Grafo en formato CSR.
+     * @param source Vértice de origen.
+     * @param potential Potenciales de Johnson, o null si todos los pesos son no negativos.
+     * @param dist Salida: distancia a cada vértice (UNREACHABLE si no se alcanza).
+     * @param parent Salida: vértice anterior en el camino (-1 para el origen y los no alcanzables).
+     * @param order Salida: vértices en el orden en que se fijaron (puede ser null).
+     * @param heap Montículo de trabajo con capacidad para todos los vértices.
+     * @return Número de vértices alcanzados (entradas válidas de order).
+     */
+    public static int run(CsrGraph graph, int source, long[] potential, long[] dist, int[] parent,
+                          int[] order, IntMinHeap heap) {
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(parent, -1);
+        heap.clear();
+
+        dist[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        int settled = 0;
+
+        while (!heap.isEmpty()) {
+            int u = heap.pollMin();
+            long du = dist[u];
+            if (order != null) order[settled] = u;
+            settled++;
+
+            for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                int v = graph.target(e);
+                long w = graph.weight(e);
+                if (potential != null) {
+                    w += potential[u] - potential[v];
+                }
+                long candidate = du + w;
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    parent[v] = u;
+                    heap.insertOrDecrease(v, candidate);
+                }
+            }
+        }
+        return settled;
+    }
+}
@@ -0,0 +1,247 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Carga de grafos desde archivos de listas de aristas (CSV/TSV) en una sola pasada.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Lee una lista de aristas "origen,destino,peso" (peso entero no negativo) línea por línea y la vuelca
+ * directamente en el grafo, sin guardar el archivo en memoria: el consumo solo depende del tamaño del grafo,
+ * no del archivo.
+ * <ul>
+ *   <li>El separador (tabulador, coma o punto y coma) se detecta en la primera línea con datos.</li>
+ *   <li>Las líneas vacías y las que empiezan por '#' se ignoran.</li>
+ *   <li>La primera línea con datos se toma como encabezado solo si su peso no es un número y sus tres
+ *       campos son nombres de columna conocidos (origen,destino,peso; from,to,weight...); el encabezado
+ *       omitido queda en el reporte. Cualquier otra línea sin peso entero cuenta como error.</li>
+ *   <li>Las líneas mal formadas se cuentan y se omiten; solo se guardan los primeros mensajes de error.</li>
+ * </ul>
+ * Las etiquetas se internan: todas las apariciones de una estación comparten el mismo String.
+ */
+public final class EdgeListLoader {
+    /** Número máximo de mensajes de error que se guardan en el reporte. */
+    public static final int MAX_ERROR_MESSAGES = 20;
+
+    private static final Set<String> COLUMN_NAMES = new HashSet<>(Arrays.asList(
+            "origen", "destino", "desde", "hasta", "inicio", "fin", "estacion", "estación",
+            "peso", "costo", "distancia", "tiempo", "minutos", "km",
+            "from", "to", "source", "target", "src", "dst", "weight", "cost", "distance", "time"));
+
+    private EdgeListLoader() {
+    }
+
+    /**
+     * Destino de las aristas leídas.
+     */
+    private interface EdgeSink {
+        void edge(String from, String to, int weight);
+    }
+
+    /**
+     * Resumen de una carga.
+     */
+    public static final class LoadReport {
+        private final long lines;
+        private final long edges;
+        private final int vertices;
+        private final long errors;
+        private final List<String> errorMessages;
+        private final String header;
+        private final long elapsedNanos;
+
+        private LoadReport(long lines, long edges, int vertices, long errors, List<String> errorMessages,
+                           String header, long elapsedNanos) {
+            this.lines = lines;
+            this.edges = edges;
+            this.vertices = vertices;
+            this.errors = errors;
+            this.errorMessages = Collections.unmodifiableList(errorMessages);
+            this.header = header;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return Número de líneas leídas. */
+        public long getLines() {
+            return lines;
+        }
+
+        /** @return Número de aristas cargadas. */
+        public long getEdges() {
+            return edges;
+        }
+
+        /** @return Número de vértices distintos encontrados. */
+        public int getVertices() {
+            return vertices;
+        }
+
+        /** @return Número de líneas omitidas por errores. */
+        public long getErrors() {
+            return errors;
+        }
+
+        /** @return Primeros mensajes de error (como máximo MAX_ERROR_MESSAGES). */
+        public List<String> getErrorMessages() {
+            return errorMessages;
+        }
+
+        /** @return Línea que se omitió como encabezado, o null si el archivo no tenía. */
+        public String getHeader() {
+            return header;
+        }
+
+        /** @return Tiempo total de la carga en nanosegundos. */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /** @return Aristas cargadas por segundo. */
+        public double getEdgesPerSecond() {
+            return elapsedNanos == 0 ? 0.0 : edges * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d aristas, %d vértices, %d errores en %.1f ms (%.0f aristas/s)%s",
+                    edges, vertices, errors, elapsedNanos / 1e6, getEdgesPerSecond(),
+                    header == null ? "" : ", encabezado '" + header + "' omitido");
+        }
+    }
+
+    /**
+     * Método que carga una lista de aristas en un GraphMatrixDirected.
+     * @param file Archivo de aristas (UTF-8).
+     * @param graph Grafo donde se añaden los vértices y las aristas.
+     * @return Reporte de la carga.
+     * @throws IOException Si no se puede leer el archivo.
+     */
+    public static LoadReport load(Path file, GraphMatrixDirected<String, Integer> graph) throws IOException {
+        return load(file, (from, to, weight) -> {
+            graph.addVertex(from);
+            graph.addVertex(to);
+            graph.addEdge(from, to, weight);
+        });
+    }
+
+    /**
+     * Método que carga una lista de aristas en un IntGraphMatrix, del que floydWeights()
+     * obtiene la entrada de Floyd sin conversión.
+     * @param file Archivo de aristas (UTF-8).
+     * @param graph Grafo donde se añaden los vértices y las aristas.
+     * @return Reporte de la carga.
+     * @throws IOException Si no se puede leer el archivo.
+     */
+    public static LoadReport load(Path file, IntGraphMatrix<String> graph) throws IOException {
+        return load(file, (from, to, weight) -> {
+            graph.addVertex(from);
+            graph.addVertex(to);
+            graph.addEdge(from, to, weight);
+        });
+    }
+
+    private static LoadReport load(Path file, EdgeSink sink) throws IOException {
+        long start = System.nanoTime();
+        Map<String, String> labels = new HashMap<>();
+        List<String> errorMessages = new ArrayList<>();
+        long lines = 0;
+        long edges = 0;
+        long errors = 0;
+        String header = null;
+        char delimiter = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.charAt(0) == '#') continue;
+
+                boolean first = delimiter == 0;
+                if (first) {
+                    delimiter = detectDelimiter(trimmed);
+                }
+
+                String error = null;
+                int firstSep = trimmed.indexOf(delimiter);
+                int secondSep = firstSep < 0 ? -1 : trimmed.indexOf(delimiter, firstSep + 1);
+                if (secondSep < 0 || trimmed.indexOf(delimiter, secondSep + 1) >= 0) {
+                    error = "se esperaban 3 campos";
+                } else {
+                    String from = trimmed.substring(0, firstSep).trim();
+                    String to = trimmed.substring(firstSep + 1, secondSep).trim();
+                    String weightText = trimmed.substring(secondSep + 1).trim();
+
+                    if (from.isEmpty() || to.isEmpty()) {
+                        error = "estación vacía";
+                    } else {
+                        int weight;
+                        try {
+                            weight = Integer.parseInt(weightText);
+                        } catch (NumberFormatException e) {
+                            if (first && isHeader(from, to, weightText)) {
+                                header = trimmed;
+                                continue;
+                            }
+                            weight = -1;
+                            error = "peso no válido '" + weightText + "'";
+                        }
+                        if (error == null && (weight < 0 || weight == Integer.MAX_VALUE)) {
+                            error = "peso fuera de rango '" + weightText + "'";
+                        }
+                        if (error == null) {
+                            sink.edge(intern(labels, from), intern(labels, to), weight);
+                            edges++;
+                        }
+                    }
+                }
+
+                if (error != null) {
+                    errors++;
+                    if (errorMessages.size() < MAX_ERROR_MESSAGES) {
+                        errorMessages.add("Línea " + lines + ": " + error);
+                    }
+                }
+            }
+        }
+
+        return new LoadReport(lines, edges, labels.size(), errors, errorMessages, header,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Método que decide si la primera línea es un encabezado: el peso no es un número (ni siquiera
+     * decimal, como 3.5) y los tres campos son nombres de columna conocidos. Así una primera arista
+     * mal escrita (A,B,x) se informa como error en lugar de desaparecer.
+     */
+    private static boolean isHeader(String from, String to, String weightText) {
+        try {
+            Double.parseDouble(weightText);
+            return false;
+        } catch (NumberFormatException e) {
+            return COLUMN_NAMES.contains(from.toLowerCase(Locale.ROOT))
+                    && COLUMN_NAMES.contains(to.toLowerCase(Locale.ROOT))
+                    && COLUMN_NAMES.contains(weightText.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static char detectDelimiter(String line) {
+        if (line.indexOf('\t') >= 0) return '\t';
+        if (line.indexOf(',') >= 0) return ',';
+        if (line.indexOf(';') >= 0) return ';';
+        return ',';
+    }
+
+    private static String intern(Map<String, String> labels, String label) {
+        String existing = labels.putIfAbsent(label, label);
+        return existing != null ? existing : label;
+    }
+}
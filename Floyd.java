@@ -3,55 +3,602 @@
  *  @version 1.0
  *  Descripción: Clase que implementa el algoritmo de Floyd.
  *  Fecha de creación: 20/05/2025
- *  Fecha de última modificación: 22/05/2025
+ *  Fecha de última modificación: 18/10/2026
  */
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
-public class Floyd {
-    private int[][] dist;
-    private int[][] next;
+public class Floyd implements ShortestPaths {
+    /** Número de consultas que procesa cada tarea en las consultas en bloque paralelas. */
+    private static final int BATCH_CHUNK = 4096;
+
+    private IntMatrix dist;
+    private IntMatrix next;
     private int V;
 
     /**
      * Constructor que inicializa el algoritmo de Floyd con una matriz de distancias inicial.
+     * La matriz se copia a un almacenamiento contiguo en el heap.
      * @param initialDist Matriz de distancias inicial entre los vértices.
      */
     public Floyd(int[][] initialDist) {
-        this.V = initialDist.length;
-        this.dist = new int[V][V];
-        this.next = new int[V][V];
-        
+        this(HeapIntMatrix.copyOf(initialDist));
+    }
+
+    /**
+     * Constructor que inicializa el algoritmo de Floyd tomando posesión de la matriz de distancias.
+     * La matriz no se copia: compute() la sobrescribe con las distancias más cortas.
+     * La matriz de siguientes se reserva con el mismo tipo de almacenamiento.
+     * @param initialDist Matriz de distancias inicial entre los vértices.
+     */
+    public Floyd(IntMatrix initialDist) {
+        this.V = initialDist.size();
+        this.dist = initialDist;
+        this.next = initialDist.allocate(V);
+
         for (int i = 0; i < V; i++) {
             for (int j = 0; j < V; j++) {
-                dist[i][j] = initialDist[i][j];
-                next[i][j] = (initialDist[i][j] != Integer.MAX_VALUE && i != j) ? j : -1;
+                next.set(i, j, (dist.get(i, j) != Integer.MAX_VALUE && i != j) ? j : -1);
             }
         }
     }
 
+    /**
+     * Constructor que reconstruye un resultado ya calculado a partir de sus matrices.
+     * @param dist Matriz de distancias más cortas.
+     * @param next Matriz de siguientes vértices en el camino.
+     */
+    Floyd(IntMatrix dist, IntMatrix next) {
+        if (dist.size() != next.size()) {
+            throw new IllegalArgumentException("Las matrices de distancias y siguientes no tienen el mismo tamaño");
+        }
+        this.V = dist.size();
+        this.dist = dist;
+        this.next = next;
+    }
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    public int size() {
+        return V;
+    }
+
+    /**
+     * Método que devuelve la matriz de distancias (sin copia).
+     * @return Matriz de distancias.
+     */
+    IntMatrix distances() {
+        return dist;
+    }
+
+    /**
+     * Método que devuelve la matriz de siguientes vértices (sin copia).
+     * @return Matriz de siguientes.
+     */
+    IntMatrix successors() {
+        return next;
+    }
+
     /**
      * Método que ejecuta el algoritmo de Floyd para calcular las distancias más cortas entre todos los pares de vértices.
      */
     public void compute() {
+        long start = FloydMetrics.start();
+        long relaxed = 0;
+        for (int k = 0; k < V; k++) {
+            int improved = relaxTile(k, k + 1, 0, V, 0, V);
+            if (FloydMetrics.ENABLED) {
+                FloydMetrics.recordStep(improved);
+                relaxed += improved;
+            }
+        }
+        if (FloydMetrics.ENABLED) FloydMetrics.recordCompute("compute", V, relaxed, start);
+    }
+
+    /**
+     * Método que comprime la matriz de siguientes a 8 o 16 bits por celda (NarrowIntMatrix).
+     * getPath() devuelve lo mismo y se puede seguir calculando o actualizando el resultado;
+     * solo computeVectorized() vuelve al núcleo escalar, porque necesita int[].
+     * @return true si se comprimió (o ya lo estaba); false si hay más de NarrowIntMatrix.MAX_SIZE vértices.
+     */
+    public boolean compressPaths() {
+        if (next instanceof NarrowIntMatrix) return true;
+        if (!NarrowIntMatrix.fits(V)) return false;
+        next = NarrowIntMatrix.copyOf(next);
+        return true;
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Floyd con el núcleo de filas de RowKernel.best().
+     * Si la Vector API está disponible, cada fila se relaja con instrucciones SIMD; si no, con el núcleo escalar.
+     * El resultado es idéntico bit a bit al de compute(). Requiere almacenamiento en heap;
+     * con otro almacenamiento se usa compute().
+     */
+    public void computeVectorized() {
+        if (!(dist instanceof HeapIntMatrix) || !(next instanceof HeapIntMatrix)) {
+            compute();
+            return;
+        }
+
+        long start = FloydMetrics.start();
+        int[] d = ((HeapIntMatrix) dist).array();
+        int[] n = ((HeapIntMatrix) next).array();
+        RowKernel kernel = RowKernel.best();
+
         for (int k = 0; k < V; k++) {
+            int pivotOffset = k * V;
             for (int i = 0; i < V; i++) {
-                for (int j = 0; j < V; j++) {
-                    if (dist[i][k] != Integer.MAX_VALUE && 
-                        dist[k][j] != Integer.MAX_VALUE &&
-                        dist[i][k] <= Integer.MAX_VALUE - dist[k][j]) {
-                        
-                        int newDist = dist[i][k] + dist[k][j];
-                        if (dist[i][j] == Integer.MAX_VALUE || newDist < dist[i][j]) {
-                            dist[i][j] = newDist;
-                            next[i][j] = next[i][k];
+                int rowOffset = i * V;
+                int dik = d[rowOffset + k];
+                if (dik == Integer.MAX_VALUE) continue;
+                kernel.relaxRow(d, n, rowOffset, pivotOffset, dik, n[rowOffset + k], 0, V);
+            }
+        }
+        if (FloydMetrics.ENABLED) FloydMetrics.recordCompute("computeVectorized", V, -1, start);
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Floyd por bloques (tiles) para aprovechar la caché.
+     * La matriz se recorre en bloques de blockSize x blockSize siguiendo las tres fases clásicas:
+     * bloque diagonal, paneles de fila y columna del pivote y, por último, los bloques restantes.
+     * Las distancias obtenidas son las mismas que con compute().
+     * @param blockSize Tamaño del bloque; debe ser mayor que cero.
+     */
+    public void computeBlocked(int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+
+        long start = FloydMetrics.start();
+        long relaxed = 0;
+        int blocks = (V + blockSize - 1) / blockSize;
+        for (int kb = 0; kb < blocks; kb++) {
+            int k0 = kb * blockSize;
+            int k1 = Math.min(k0 + blockSize, V);
+
+            long phase = FloydMetrics.start();
+            relaxed += relaxTile(k0, k1, k0, k1, k0, k1);
+            if (FloydMetrics.ENABLED) phase = FloydMetrics.recordPhase(FloydMetrics.PHASE_DIAGONAL, phase);
+
+            for (int b = 0; b < blocks; b++) {
+                if (b == kb) continue;
+                int b0 = b * blockSize;
+                int b1 = Math.min(b0 + blockSize, V);
+                relaxed += relaxTile(k0, k1, k0, k1, b0, b1);
+                relaxed += relaxTile(k0, k1, b0, b1, k0, k1);
+            }
+            if (FloydMetrics.ENABLED) phase = FloydMetrics.recordPhase(FloydMetrics.PHASE_PANELS, phase);
+
+            for (int ib = 0; ib < blocks; ib++) {
+                if (ib == kb) continue;
+                int i0 = ib * blockSize;
+                int i1 = Math.min(i0 + blockSize, V);
+                for (int jb = 0; jb < blocks; jb++) {
+                    if (jb == kb) continue;
+                    int j0 = jb * blockSize;
+                    int j1 = Math.min(j0 + blockSize, V);
+                    relaxed += relaxTile(k0, k1, i0, i1, j0, j1);
+                }
+            }
+            if (FloydMetrics.ENABLED) FloydMetrics.recordPhase(FloydMetrics.PHASE_REMAINDER, phase);
+        }
+        if (FloydMetrics.ENABLED) {
+            FloydMetrics.recordRelaxations(relaxed);
+            FloydMetrics.recordCompute("computeBlocked", V, relaxed, start);
+        }
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Floyd repartiendo las filas de cada paso k entre varios hilos.
+     * Dentro de un mismo paso k las filas son independientes, por lo que el resultado (dist y next)
+     * es idéntico al de compute().
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public void computeParallel(int parallelism) {
+        ForkJoinPool pool = createPool(parallelism);
+        long start = FloydMetrics.start();
+        LongAdder improved = FloydMetrics.ENABLED ? new LongAdder() : null;
+        long relaxed = 0;
+        try {
+            for (int k = 0; k < V; k++) {
+                final int pivot = k;
+                runParallel(pool, V, i -> {
+                    int count = relaxTile(pivot, pivot + 1, i, i + 1, 0, V);
+                    if (improved != null) improved.add(count);
+                });
+                if (improved != null) {
+                    long step = improved.sumThenReset();
+                    FloydMetrics.recordStep(step);
+                    relaxed += step;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (FloydMetrics.ENABLED) FloydMetrics.recordCompute("computeParallel", V, relaxed, start);
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Floyd por bloques procesando en paralelo los bloques independientes.
+     * Los paneles de fila y columna del pivote se calculan en paralelo entre sí, y luego el resto de bloques.
+     * El resultado (dist y next) es idéntico al de computeBlocked(blockSize).
+     * @param blockSize Tamaño del bloque; debe ser mayor que cero.
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public void computeBlockedParallel(int blockSize, int parallelism) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+
+        int blocks = (V + blockSize - 1) / blockSize;
+        ForkJoinPool pool = createPool(parallelism);
+        long start = FloydMetrics.start();
+        LongAdder improved = FloydMetrics.ENABLED ? new LongAdder() : null;
+        try {
+            for (int kb = 0; kb < blocks; kb++) {
+                int k0 = kb * blockSize;
+                int k1 = Math.min(k0 + blockSize, V);
+                final int pivot = kb;
+
+                long phase = FloydMetrics.start();
+                int diagonal = relaxTile(k0, k1, k0, k1, k0, k1);
+                if (improved != null) improved.add(diagonal);
+                if (FloydMetrics.ENABLED) phase = FloydMetrics.recordPhase(FloydMetrics.PHASE_DIAGONAL, phase);
+
+                runParallel(pool, 2 * blocks, task -> {
+                    int b = task / 2;
+                    if (b == pivot) return;
+                    int b0 = b * blockSize;
+                    int b1 = Math.min(b0 + blockSize, V);
+                    int count = task % 2 == 0
+                            ? relaxTile(k0, k1, k0, k1, b0, b1)
+                            : relaxTile(k0, k1, b0, b1, k0, k1);
+                    if (improved != null) improved.add(count);
+                });
+                if (FloydMetrics.ENABLED) phase = FloydMetrics.recordPhase(FloydMetrics.PHASE_PANELS, phase);
+
+                runParallel(pool, blocks * blocks, task -> {
+                    int ib = task / blocks;
+                    int jb = task % blocks;
+                    if (ib == pivot || jb == pivot) return;
+                    int i0 = ib * blockSize;
+                    int j0 = jb * blockSize;
+                    int count = relaxTile(k0, k1, i0, Math.min(i0 + blockSize, V), j0, Math.min(j0 + blockSize, V));
+                    if (improved != null) improved.add(count);
+                });
+                if (FloydMetrics.ENABLED) FloydMetrics.recordPhase(FloydMetrics.PHASE_REMAINDER, phase);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        if (improved != null) {
+            long relaxed = improved.sum();
+            FloydMetrics.recordRelaxations(relaxed);
+            FloydMetrics.recordCompute("computeBlockedParallel", V, relaxed, start);
+        }
+    }
+
+    /**
+     * Método que crea el pool de hilos para los modos paralelos.
+     * @param parallelism Número máximo de hilos; debe ser mayor que cero.
+     * @return Pool con el paralelismo indicado.
+     */
+    static ForkJoinPool createPool(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("El paralelismo debe ser mayor que cero");
+        }
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Método que ejecuta las tareas [0, tasks) en el pool y espera a que terminen todas.
+     * @param pool Pool de hilos.
+     * @param tasks Número de tareas.
+     * @param task Tarea a ejecutar para cada índice.
+     */
+    static void runParallel(ForkJoinPool pool, int tasks, IntConsumer task) {
+        pool.submit(() -> IntStream.range(0, tasks).parallel().forEach(task)).join();
+    }
+
+    /**
+     * Método que actualiza las distancias cuando se agrega la arista u -> v o se reduce su peso.
+     * En lugar de repetir compute() (O(V³)), repara dist y next en O(V²) probando, para cada par (i, j),
+     * el camino i -> u -> v -> j. Requiere que el grafo no tenga ciclos negativos.
+     * @param u Vértice de origen de la arista.
+     * @param v Vértice de destino de la arista.
+     * @param w Nuevo peso de la arista.
+     */
+    public void decreaseEdge(int u, int v, int w) {
+        if (u == v) return;
+        int duv = dist.get(u, v);
+        if (duv != Integer.MAX_VALUE && w >= duv) return;
+
+        int[] toU = new int[V];
+        int[] hopToU = new int[V];
+        int[] fromV = new int[V];
+        for (int x = 0; x < V; x++) {
+            toU[x] = (x == u) ? 0 : dist.get(x, u);
+            hopToU[x] = (x == u) ? v : next.get(x, u);
+            fromV[x] = (x == v) ? 0 : dist.get(v, x);
+        }
+
+        for (int i = 0; i < V; i++) {
+            if (toU[i] == Integer.MAX_VALUE) continue;
+            long viaEdge = (long) toU[i] + w;
+            int hop = hopToU[i];
+
+            for (int j = 0; j < V; j++) {
+                if (fromV[j] == Integer.MAX_VALUE) continue;
+                long candidate = viaEdge + fromV[j];
+                int dij = dist.get(i, j);
+                if (candidate < Integer.MAX_VALUE && (dij == Integer.MAX_VALUE || candidate < dij)) {
+                    dist.set(i, j, (int) candidate);
+                    next.set(i, j, hop);
+                }
+            }
+        }
+    }
+
+    /**
+     * Método que aplica un lote de aristas nuevas o más baratas con una sola pasada de reparación.
+     * Primero se colocan los nuevos pesos y luego se ejecutan solo los pasos de Floyd cuyo pivote es
+     * un extremo de alguna arista modificada, en O(|S|·V²) donde S es el conjunto de extremos.
+     * Requiere que el grafo no tenga ciclos negativos.
+     * @param from Vértices de origen de las aristas.
+     * @param to Vértices de destino de las aristas.
+     * @param weights Nuevos pesos de las aristas.
+     */
+    public void decreaseEdges(int[] from, int[] to, int[] weights) {
+        if (from.length != to.length || from.length != weights.length) {
+            throw new IllegalArgumentException("Los arreglos de aristas no tienen la misma longitud");
+        }
+
+        boolean[] pivot = new boolean[V];
+        for (int e = 0; e < from.length; e++) {
+            int u = from[e];
+            int v = to[e];
+            if (u == v) continue;
+            int duv = dist.get(u, v);
+            if (duv == Integer.MAX_VALUE || weights[e] < duv) {
+                dist.set(u, v, weights[e]);
+                next.set(u, v, v);
+                pivot[u] = true;
+                pivot[v] = true;
+            }
+        }
+
+        for (int k = 0; k < V; k++) {
+            if (pivot[k]) {
+                relaxTile(k, k + 1, 0, V, 0, V);
+            }
+        }
+    }
+
+    /**
+     * Método que actualiza las distancias cuando la arista u -> v aumenta de peso o se elimina.
+     * Solo se recalculan los pares (i, j) cuyo camino guardado en next usa la arista u -> v;
+     * para cada destino j afectado se ejecuta un Dijkstra restringido a los orígenes afectados.
+     * Requiere pesos no negativos.
+     * @param u Vértice de origen de la arista.
+     * @param v Vértice de destino de la arista.
+     * @param weights Pesos actuales de las aristas, ya con el cambio aplicado
+     *                (Integer.MAX_VALUE si la arista no existe).
+     * @return Número de pares recalculados.
+     */
+    public int increaseEdge(int u, int v, IntMatrix weights) {
+        if (weights.size() != V) {
+            throw new IllegalArgumentException("La matriz de pesos no coincide con el tamaño del grafo");
+        }
+        if (u == v) return 0;
+
+        byte[] status = new byte[V];
+        int[] chain = new int[V];
+        int[] affected = new int[V];
+        int[] candidate = new int[V];
+        int[] hop = new int[V];
+        boolean[] inAffected = new boolean[V];
+        boolean[] settled = new boolean[V];
+        int recomputed = 0;
+
+        for (int j = 0; j < V; j++) {
+            if (next.get(u, j) != v) continue;
+
+            int count = collectAffected(u, j, status, chain, affected);
+            for (int a = 0; a < count; a++) {
+                inAffected[affected[a]] = true;
+            }
+
+            repairColumn(j, affected, count, inAffected, settled, candidate, hop, weights);
+            recomputed += count;
+
+            for (int a = 0; a < count; a++) {
+                inAffected[affected[a]] = false;
+                settled[affected[a]] = false;
+            }
+        }
+        return recomputed;
+    }
+
+    /**
+     * Método que elimina la arista u -> v de la matriz de pesos y repara las distancias afectadas.
+     * @param u Vértice de origen de la arista.
+     * @param v Vértice de destino de la arista.
+     * @param weights Pesos actuales de las aristas.
+     * @return Número de pares recalculados.
+     */
+    public int removeEdge(int u, int v, IntMatrix weights) {
+        weights.set(u, v, Integer.MAX_VALUE);
+        return increaseEdge(u, v, weights);
+    }
+
+    /**
+     * Método que encuentra los orígenes i cuyo camino hacia j pasa por u, siguiendo next.
+     * @param u Vértice que debe aparecer en el camino.
+     * @param j Destino.
+     * @param status Arreglo de trabajo (0 desconocido, 1 pasa por u, 2 no pasa).
+     * @param chain Arreglo de trabajo para el recorrido.
+     * @param affected Salida con los orígenes afectados.
+     * @return Número de orígenes afectados.
+     */
+    private int collectAffected(int u, int j, byte[] status, int[] chain, int[] affected) {
+        Arrays.fill(status, (byte) 0);
+        status[u] = 1;
+        status[j] = 2;
+        int count = 0;
+
+        for (int i = 0; i < V; i++) {
+            int length = 0;
+            int x = i;
+            while (status[x] == 0) {
+                chain[length++] = x;
+                x = next.get(x, j);
+                if (x == -1) break;
+            }
+            byte result = (x == -1) ? 2 : status[x];
+            for (int c = 0; c < length; c++) {
+                status[chain[c]] = result;
+            }
+        }
+
+        for (int i = 0; i < V; i++) {
+            if (status[i] == 1) {
+                affected[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Método que recalcula la columna j para los orígenes afectados con un Dijkstra sobre arreglos.
+     * Los orígenes no afectados conservan su distancia, por lo que sirven como fronteras.
+     */
+    private void repairColumn(int j, int[] affected, int count, boolean[] inAffected, boolean[] settled,
+                              int[] candidate, int[] hop, IntMatrix weights) {
+        for (int a = 0; a < count; a++) {
+            int i = affected[a];
+            long best = Integer.MAX_VALUE;
+            int bestHop = -1;
+            for (int k = 0; k < V; k++) {
+                if (inAffected[k] || k == i) continue;
+                int w = weights.get(i, k);
+                int dkj = (k == j) ? 0 : dist.get(k, j);
+                if (w == Integer.MAX_VALUE || dkj == Integer.MAX_VALUE) continue;
+                long through = (long) w + dkj;
+                if (through < best) {
+                    best = through;
+                    bestHop = k;
+                }
+            }
+            candidate[i] = (int) best;
+            hop[i] = bestHop;
+        }
+
+        for (int round = 0; round < count; round++) {
+            int x = -1;
+            for (int a = 0; a < count; a++) {
+                int i = affected[a];
+                if (!settled[i] && (x == -1 || candidate[i] < candidate[x])) {
+                    x = i;
+                }
+            }
+            settled[x] = true;
+            dist.set(x, j, candidate[x]);
+            next.set(x, j, candidate[x] == Integer.MAX_VALUE ? -1 : hop[x]);
+            if (candidate[x] == Integer.MAX_VALUE) continue;
+
+            for (int a = 0; a < count; a++) {
+                int p = affected[a];
+                if (settled[p]) continue;
+                int w = weights.get(p, x);
+                if (w == Integer.MAX_VALUE) continue;
+                long through = (long) w + candidate[x];
+                if (through < candidate[p]) {
+                    candidate[p] = (int) through;
+                    hop[p] = x;
+                }
+            }
+        }
+    }
+
+    /**
+     * Método que relaja un bloque de la matriz usando como intermedios los vértices [k0, k1).
+     * @param k0 Primer vértice intermedio (inclusive).
+     * @param k1 Último vértice intermedio (exclusive).
+     * @param i0 Primera fila del bloque (inclusive).
+     * @param i1 Última fila del bloque (exclusive).
+     * @param j0 Primera columna del bloque (inclusive).
+     * @param j1 Última columna del bloque (exclusive).
+     * @return Número de relajaciones que mejoraron una distancia (siempre 0 sin instrumentación).
+     */
+    private int relaxTile(int k0, int k1, int i0, int i1, int j0, int j1) {
+        if (dist instanceof HeapIntMatrix && next instanceof HeapIntMatrix) {
+            return relaxTile(((HeapIntMatrix) dist).array(), ((HeapIntMatrix) next).array(), k0, k1, i0, i1, j0, j1);
+        }
+
+        // Otros almacenamientos: acceso por la interfaz IntMatrix.
+        int improved = 0;
+        for (int k = k0; k < k1; k++) {
+            for (int i = i0; i < i1; i++) {
+                int dik = dist.get(i, k);
+                if (dik == Integer.MAX_VALUE) continue;
+                int nik = next.get(i, k);
+
+                for (int j = j0; j < j1; j++) {
+                    int dkj = dist.get(k, j);
+                    if (dkj != Integer.MAX_VALUE && dik <= Integer.MAX_VALUE - dkj) {
+                        int newDist = dik + dkj;
+                        int dij = dist.get(i, j);
+                        if (dij == Integer.MAX_VALUE || newDist < dij) {
+                            dist.set(i, j, newDist);
+                            next.set(i, j, nik);
+                            if (FloydMetrics.ENABLED) improved++;
                         }
                     }
                 }
             }
         }
+        return improved;
     }
-    
+
+    /**
+     * Método que relaja un bloque directamente sobre los arrays de HeapIntMatrix, igual que
+     * computeVectorized(). Así el bucle no depende de llamadas a IntMatrix, que dejan de ser
+     * monomórficas cuando en la misma JVM se usan varios almacenamientos.
+     * @return Número de relajaciones que mejoraron una distancia (siempre 0 sin instrumentación).
+     */
+    private int relaxTile(int[] d, int[] n, int k0, int k1, int i0, int i1, int j0, int j1) {
+        int improved = 0;
+        for (int k = k0; k < k1; k++) {
+            int pivotOffset = k * V;
+            for (int i = i0; i < i1; i++) {
+                int rowOffset = i * V;
+                int dik = d[rowOffset + k];
+                if (dik == Integer.MAX_VALUE) continue;
+                int nik = n[rowOffset + k];
+
+                for (int j = j0; j < j1; j++) {
+                    int dkj = d[pivotOffset + j];
+                    if (dkj != Integer.MAX_VALUE && dik <= Integer.MAX_VALUE - dkj) {
+                        int newDist = dik + dkj;
+                        int dij = d[rowOffset + j];
+                        if (dij == Integer.MAX_VALUE || newDist < dij) {
+                            d[rowOffset + j] = newDist;
+                            n[rowOffset + j] = nik;
+                            if (FloydMetrics.ENABLED) improved++;
+                        }
+                    }
+                }
+            }
+        }
+        return improved;
+    }
+
     /**
      * Método que obtiene la distancia más corta entre dos vértices.
      * @param i Índice del primer vértice.
@@ -59,7 +606,12 @@ public class Floyd {
      * @return Distancia más corta entre los dos vértices.
      */
     public int getDistance(int i, int j) {
-        return dist[i][j];
+        if (!FloydMetrics.ENABLED) return dist.get(i, j);
+
+        long start = FloydMetrics.start();
+        int d = dist.get(i, j);
+        FloydMetrics.recordDistance(start);
+        return d;
     }
     
     /**
@@ -69,24 +621,203 @@ public class Floyd {
      * @return Lista de índices que representan el camino más corto entre los dos vértices.
      */
     public List<Integer> getPath(int i, int j) {
+        if (!FloydMetrics.ENABLED) return path(i, j);
+
+        long start = FloydMetrics.start();
+        List<Integer> path = path(i, j);
+        FloydMetrics.recordPath(i, j, path == null ? 0 : path.size(), start);
+        return path;
+    }
+
+    /**
+     * Método que reconstruye el camino siguiendo la matriz de siguientes (sin instrumentación).
+     */
+    private List<Integer> path(int i, int j) {
+        if (i != j && dist.get(i, j) == Integer.MAX_VALUE) {
+            return null;
+        }
+        return followNext(next, i, j);
+    }
+
+    /**
+     * Método que reconstruye un camino siguiendo una matriz de siguientes (next(i, j) es el vértice que
+     * sigue a i en el camino más corto hacia j, o -1 si no hay). Lo comparten Floyd y LexFloyd, que guarda
+     * las distancias en otro formato pero los siguientes igual.
+     * @param next Matriz de siguientes.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Lista de índices del camino (solo i si i == j), o null si no hay camino.
+     */
+    static List<Integer> followNext(IntMatrix next, int i, int j) {
+        List<Integer> path = new ArrayList<>();
+        path.add(i);
         if (i == j) {
-            List<Integer> path = new ArrayList<>();
-            path.add(i);
             return path;
         }
-        if (dist[i][j] == Integer.MAX_VALUE || next[i][j] == -1) {
+        if (next.get(i, j) == -1) {
             return null;
         }
-        
-        List<Integer> path = new ArrayList<>();
-        path.add(i);
+
         while (i != j) {
-            i = next[i][j];
+            i = next.get(i, j);
             path.add(i);
         }
         return path;
     }
 
+    /**
+     * Método que obtiene en bloque las distancias de varios pares origen-destino.
+     * No reserva memoria: el resultado de la consulta q se escribe en out[q].
+     * @param origins Índices de origen.
+     * @param destinations Índices de destino (mismo número que origins).
+     * @param out Array de salida con al menos origins.length posiciones.
+     */
+    public void getDistances(int[] origins, int[] destinations, int[] out) {
+        checkBatch(origins, destinations, out.length);
+        distanceRange(origins, destinations, out, 0, origins.length);
+    }
+
+    /**
+     * Método que obtiene en bloque las distancias de varios pares, repartiendo las consultas entre varios hilos.
+     * @param origins Índices de origen.
+     * @param destinations Índices de destino (mismo número que origins).
+     * @param out Array de salida con al menos origins.length posiciones.
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public void getDistances(int[] origins, int[] destinations, int[] out, int parallelism) {
+        checkBatch(origins, destinations, out.length);
+        int count = origins.length;
+        ForkJoinPool pool = createPool(parallelism);
+        try {
+            runParallel(pool, batchChunks(count), c -> {
+                int from = c * BATCH_CHUNK;
+                distanceRange(origins, destinations, out, from, Math.min(from + BATCH_CHUNK, count));
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Método que reconstruye en bloque los caminos de varios pares origen-destino sin reservar memoria.
+     * Los vértices del camino q quedan en buffer[offsets[q], offsets[q + 1]); si no hay camino el rango
+     * queda vacío, y si origen y destino coinciden contiene solo el origen (igual que getPath()).
+     * @param origins Índices de origen.
+     * @param destinations Índices de destino (mismo número que origins).
+     * @param offsets Array de salida con al menos origins.length + 1 posiciones.
+     * @param buffer Array donde se escriben los caminos, uno tras otro.
+     * @return Número total de posiciones escritas en buffer.
+     */
+    public int getPaths(int[] origins, int[] destinations, int[] offsets, int[] buffer) {
+        checkBatch(origins, destinations, offsets.length - 1);
+        int pos = 0;
+        offsets[0] = 0;
+        for (int q = 0; q < origins.length; q++) {
+            int length = pathLength(origins[q], destinations[q]);
+            if (pos + length > buffer.length) {
+                throw new IllegalArgumentException("El buffer de caminos es demasiado pequeño");
+            }
+            writePath(origins[q], destinations[q], buffer, pos);
+            pos += length;
+            offsets[q + 1] = pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Método que reconstruye en bloque los caminos de varios pares repartiendo el trabajo entre varios hilos.
+     * Primero se miden los caminos en paralelo, después se calculan los desplazamientos y por último
+     * cada hilo escribe sus caminos en su propio tramo del buffer. El resultado es idéntico al de
+     * getPaths(origins, destinations, offsets, buffer).
+     * @param origins Índices de origen.
+     * @param destinations Índices de destino (mismo número que origins).
+     * @param offsets Array de salida con al menos origins.length + 1 posiciones.
+     * @param buffer Array donde se escriben los caminos, uno tras otro.
+     * @param parallelism Número máximo de hilos a utilizar.
+     * @return Número total de posiciones escritas en buffer.
+     */
+    public int getPaths(int[] origins, int[] destinations, int[] offsets, int[] buffer, int parallelism) {
+        checkBatch(origins, destinations, offsets.length - 1);
+        int count = origins.length;
+        int chunks = batchChunks(count);
+        ForkJoinPool pool = createPool(parallelism);
+        try {
+            runParallel(pool, chunks, c -> {
+                int from = c * BATCH_CHUNK;
+                int to = Math.min(from + BATCH_CHUNK, count);
+                for (int q = from; q < to; q++) {
+                    offsets[q + 1] = pathLength(origins[q], destinations[q]);
+                }
+            });
+
+            offsets[0] = 0;
+            for (int q = 0; q < count; q++) {
+                offsets[q + 1] += offsets[q];
+            }
+            if (offsets[count] > buffer.length) {
+                throw new IllegalArgumentException("El buffer de caminos es demasiado pequeño");
+            }
+
+            runParallel(pool, chunks, c -> {
+                int from = c * BATCH_CHUNK;
+                int to = Math.min(from + BATCH_CHUNK, count);
+                for (int q = from; q < to; q++) {
+                    writePath(origins[q], destinations[q], buffer, offsets[q]);
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        return offsets[count];
+    }
+
+    /**
+     * Método que devuelve cuántos vértices tiene el camino más corto entre dos vértices.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Número de vértices del camino (incluidos los extremos), o 0 si no hay camino.
+     */
+    public int pathLength(int i, int j) {
+        if (i == j) return 1;
+        if (dist.get(i, j) == Integer.MAX_VALUE || next.get(i, j) == -1) return 0;
+
+        int length = 1;
+        while (i != j) {
+            i = next.get(i, j);
+            length++;
+        }
+        return length;
+    }
+
+    private void writePath(int i, int j, int[] buffer, int pos) {
+        if (i != j && (dist.get(i, j) == Integer.MAX_VALUE || next.get(i, j) == -1)) return;
+
+        buffer[pos++] = i;
+        while (i != j) {
+            i = next.get(i, j);
+            buffer[pos++] = i;
+        }
+    }
+
+    private void distanceRange(int[] origins, int[] destinations, int[] out, int from, int to) {
+        for (int q = from; q < to; q++) {
+            out[q] = dist.get(origins[q], destinations[q]);
+        }
+    }
+
+    private static void checkBatch(int[] origins, int[] destinations, int outputCapacity) {
+        if (origins.length != destinations.length) {
+            throw new IllegalArgumentException("Los arrays de orígenes y destinos no tienen el mismo tamaño");
+        }
+        if (outputCapacity < origins.length) {
+            throw new IllegalArgumentException("El array de salida es demasiado pequeño");
+        }
+    }
+
+    private static int batchChunks(int count) {
+        return (count + BATCH_CHUNK - 1) / BATCH_CHUNK;
+    }
+
     /**
      * Método que encuentra el centro del grafo.
      * @param vertexNames Array de nombres de los vértices.
@@ -104,8 +835,9 @@ public class Floyd {
             boolean hasReachableVertex = false;
             
             for (int j = 0; j < V; j++) {
-                if (i != j && dist[i][j] != Integer.MAX_VALUE) {
-                    maxDist = Math.max(maxDist, dist[i][j]);
+                int d = dist.get(i, j);
+                if (i != j && d != Integer.MAX_VALUE) {
+                    maxDist = Math.max(maxDist, d);
                     hasReachableVertex = true;
                 }
             }
@@ -124,4 +856,41 @@ public class Floyd {
         
         return center;
     }
-}
\ No newline at end of file
+
+    /**
+     * Método que encuentra el centro del grafo recorriendo solo los vértices alcanzables de cada fila.
+     * Da el mismo resultado que findGraphCenter(vertexNames), pero los vértices de otras componentes
+     * no se leen de la matriz de distancias y los vértices que no alcanzan a nadie no se recorren.
+     * @param vertexNames Array de nombres de los vértices.
+     * @param closure Clausura transitiva ya calculada del mismo grafo.
+     * @return Nombre del vértice central.
+     */
+    public String findGraphCenter(String[] vertexNames, TransitiveClosure closure) {
+        if (vertexNames == null || vertexNames.length != V) {
+            throw new IllegalArgumentException("El array de nombres no coincide con el tamaño del grafo");
+        }
+        if (closure.size() != V) {
+            throw new IllegalArgumentException("La clausura no coincide con el tamaño del grafo");
+        }
+
+        int minEccentricity = Integer.MAX_VALUE;
+        String center = null;
+        for (int i = 0; i < V; i++) {
+            int maxDist = 0;
+            boolean hasReachableVertex = false;
+            for (int j = closure.nextReachable(i, 0); j >= 0; j = closure.nextReachable(i, j + 1)) {
+                if (j != i) {
+                    maxDist = Math.max(maxDist, dist.get(i, j));
+                    hasReachableVertex = true;
+                }
+            }
+
+            if (hasReachableVertex && maxDist < minEccentricity) {
+                minEccentricity = maxDist;
+                center = vertexNames[i];
+            }
+        }
+
+        return center;
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Puente entre el grafo y Floyd con índices estables y cálculo diferido.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.ToIntFunction;
+
+/**
+ * Exporta un GraphMatrixDirected a una matriz de pesos en el orden de Vertex.index() (y no en el orden
+ * del HashMap del grafo), en una sola pasada y sin crear Integer por celda. Guarda un LabelIndex de
+ * etiqueta a índice para resolver nombres en O(1).
+ *
+ * compute() no se ejecuta al construir: se hace la primera vez que se pide floyd(), o antes en un hilo
+ * de fondo con startInBackground(). Mientras tanto getDistance() y getPath() se responden con
+ * Dijkstra bajo demanda (LazyShortestPaths), así que el tiempo hasta la primera respuesta no crece
+ * con V³. Las distancias son las mismas; ante empates el camino puede ser otro de igual longitud.
+ * Las consultas no son seguras para uso concurrente.
+ */
+public class FloydBridge<V> {
+    private static final long LAZY_MEMORY_BUDGET = 64L << 20;
+
+    private final List<V> labels;
+    private final LabelIndex<V> index;
+    private final FutureTask<Floyd> task;
+    private final CsrGraph graph;
+    private LazyShortestPaths lazy;
+
+    private FloydBridge(List<V> labels, FutureTask<Floyd> task, CsrGraph graph) {
+        this.labels = Collections.unmodifiableList(labels);
+        this.index = new LabelIndex<>(labels.size());
+        for (int i = 0; i < labels.size(); i++) {
+            index.put(labels.get(i), i);
+        }
+        this.task = task;
+        this.graph = graph;
+    }
+
+    /**
+     * Método que exporta un grafo sin calcular Floyd todavía.
+     * Los vértices se numeran por su Vertex.index(), sin huecos; la diagonal queda en 0.
+     * @param graph Grafo de origen (no se modifica).
+     * @param weight Función que convierte la etiqueta de una arista en su peso.
+     * @return Puente sin calcular.
+     */
+    public static <V, E> FloydBridge<V> fromGraph(GraphMatrixDirected<V, E> graph, ToIntFunction<? super E> weight) {
+        int capacity = graph.data.length;
+        Object[] byIndex = new Object[capacity];
+        for (GraphMatrixDirected.Vertex<V> vertex : graph.dict.values()) {
+            byIndex[vertex.index()] = vertex.label();
+        }
+
+        int n = graph.dict.size();
+        int[] rowOf = new int[n];
+        List<V> labels = new ArrayList<>(n);
+        for (int g = 0; g < capacity; g++) {
+            if (byIndex[g] == null) continue;
+            @SuppressWarnings("unchecked")
+            V label = (V) byIndex[g];
+            rowOf[labels.size()] = g;
+            labels.add(label);
+        }
+
+        int[] weights = new int[HeapIntMatrix.checkedLength(n)];
+        for (int i = 0; i < n; i++) {
+            Object[] row = graph.data[rowOf[i]];
+            int rowOffset = i * n;
+            for (int j = 0; j < n; j++) {
+                @SuppressWarnings("unchecked")
+                GraphMatrixDirected.Edge<V, E> edge = (GraphMatrixDirected.Edge<V, E>) row[rowOf[j]];
+                weights[rowOffset + j] = i == j ? 0 : edge == null ? Integer.MAX_VALUE : weight.applyAsInt(edge.label());
+            }
+        }
+
+        HeapIntMatrix matrix = new HeapIntMatrix(n, weights);
+        // El CSR se construye antes de que Floyd tome posesión de la matriz y la sobrescriba.
+        CsrGraph csr = CsrGraph.fromMatrix(matrix);
+        FutureTask<Floyd> task = new FutureTask<>(() -> {
+            Floyd floyd = new Floyd(matrix);
+            floyd.compute();
+            return floyd;
+        });
+        return new FloydBridge<>(labels, task, csr);
+    }
+
+    /**
+     * Método que envuelve un resultado ya calculado (por ejemplo, cargado con FloydFile).
+     * @param floyd Resultado calculado.
+     * @param labels Etiquetas en el orden de los índices de floyd.
+     * @return Puente ya calculado.
+     */
+    public static <V> FloydBridge<V> of(Floyd floyd, V[] labels) {
+        if (floyd.size() != labels.length) {
+            throw new IllegalArgumentException("Debe haber una etiqueta por cada vértice");
+        }
+        FutureTask<Floyd> task = new FutureTask<>(() -> floyd);
+        task.run();
+        return new FloydBridge<>(new ArrayList<>(Arrays.asList(labels)), task, null);
+    }
+
+    /**
+     * Método que inicia compute() en un hilo de fondo, si no ha empezado ya.
+     */
+    public void startInBackground() {
+        if (task.isDone()) return;
+        Thread thread = new Thread(task, "floyd-compute");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Método que indica si el resultado de Floyd ya está disponible.
+     * @return true si compute() terminó.
+     */
+    public boolean isComputed() {
+        return task.isDone();
+    }
+
+    /**
+     * Método que devuelve el resultado de Floyd, calculándolo en este hilo si nadie lo ha empezado
+     * o esperando al hilo de fondo si ya está en curso.
+     * @return Resultado calculado.
+     */
+    public Floyd floyd() {
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Se interrumpió la espera del cálculo de Floyd", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló el cálculo de Floyd", e.getCause());
+        }
+    }
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    public int size() {
+        return labels.size();
+    }
+
+    /**
+     * Método que devuelve las etiquetas en el orden de los índices.
+     * @return Lista no modificable de etiquetas.
+     */
+    public List<V> getLabels() {
+        return labels;
+    }
+
+    /**
+     * Método que devuelve la etiqueta de un índice.
+     * @param i Índice del vértice.
+     * @return Etiqueta.
+     */
+    public V label(int i) {
+        return labels.get(i);
+    }
+
+    /**
+     * Método que obtiene el índice de una etiqueta.
+     * @param label Etiqueta del vértice.
+     * @return Índice, o LabelIndex.ABSENT si no existe.
+     */
+    public int indexOf(V label) {
+        return index.get(label);
+    }
+
+    /**
+     * Método que obtiene la distancia más corta entre dos vértices sin esperar a Floyd.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Distancia más corta, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int getDistance(int i, int j) {
+        return task.isDone() ? floyd().getDistance(i, j) : lazy().getDistance(i, j);
+    }
+
+    /**
+     * Método que obtiene el camino más corto entre dos vértices sin esperar a Floyd.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Lista de índices del camino, o null si no hay camino.
+     */
+    public List<Integer> getPath(int i, int j) {
+        return task.isDone() ? floyd().getPath(i, j) : lazy().getPath(i, j);
+    }
+
+    private LazyShortestPaths lazy() {
+        if (lazy == null) {
+            lazy = new LazyShortestPaths(graph, LAZY_MEMORY_BUDGET);
+        }
+        return lazy;
+    }
+}
@@ -0,0 +1,262 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Clase que guarda y carga resultados de Floyd en un archivo binario mapeado a memoria.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Formato del archivo (little-endian):
+ * <pre>
+ *   int   MAGIC ("FLYD")
+ *   int   VERSION
+ *   int   V
+ *   long  CRC32 de la tabla de nombres y de ambas matrices
+ *   int   longitud en bytes de la tabla de nombres
+ *   ...   tabla de nombres: por cada vértice, int longitud + bytes UTF-8
+ *   ...   relleno hasta múltiplo de 8
+ *   int[V*V] matriz dist (row-major)
+ *   int[V*V] matriz next (row-major)
+ * </pre>
+ * Al cargar, las matrices se mapean con FileChannel.map sin copiarlas al heap.
+ */
+public class FloydFile {
+    private static final int MAGIC = 0x464C5944;
+    private static final int VERSION = 1;
+    private static final int CHECKSUM_OFFSET = 12;
+    private static final int HEADER_BYTES = 24;
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    private final Floyd floyd;
+    private final String[] vertexNames;
+
+    private FloydFile(Floyd floyd, String[] vertexNames) {
+        this.floyd = floyd;
+        this.vertexNames = vertexNames;
+    }
+
+    /**
+     * Método que devuelve el resultado cargado.
+     * @return Instancia de Floyd respaldada por el archivo mapeado.
+     */
+    public Floyd getFloyd() {
+        return floyd;
+    }
+
+    /**
+     * Método que devuelve los nombres de los vértices en el orden de los índices de la matriz.
+     * @return Array de nombres.
+     */
+    public String[] getVertexNames() {
+        return vertexNames.clone();
+    }
+
+    /**
+     * Método que guarda un resultado calculado de Floyd.
+     * @param floyd Resultado a guardar (después de compute()).
+     * @param vertexNames Nombres de los vértices en el orden de los índices.
+     * @param path Archivo destino; se sobrescribe si existe.
+     * @throws IOException Si ocurre un error de escritura.
+     */
+    public static void save(Floyd floyd, String[] vertexNames, Path path) throws IOException {
+        int n = floyd.size();
+        if (vertexNames == null || vertexNames.length != n) {
+            throw new IllegalArgumentException("El array de nombres no coincide con el tamaño del grafo");
+        }
+
+        ByteBuffer names = encodeNames(vertexNames);
+        CRC32 crc = new CRC32();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(n).putLong(0L).putInt(names.remaining());
+            header.flip();
+            writeFully(channel, header);
+
+            crc.update(names.duplicate());
+            writeFully(channel, names);
+            writeFully(channel, ByteBuffer.allocate(padding(HEADER_BYTES + names.limit())));
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            writeMatrix(channel, floyd.distances(), buffer, crc);
+            writeMatrix(channel, floyd.successors(), buffer, crc);
+
+            ByteBuffer checksum = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            checksum.putLong(crc.getValue()).flip();
+            while (checksum.hasRemaining()) {
+                channel.write(checksum, CHECKSUM_OFFSET + checksum.position());
+            }
+        }
+    }
+
+    /**
+     * Método que carga un resultado verificando su checksum.
+     * @param path Archivo a cargar.
+     * @return Resultado cargado.
+     * @throws IOException Si el archivo no se puede leer o está dañado.
+     */
+    public static FloydFile load(Path path) throws IOException {
+        return load(path, true);
+    }
+
+    /**
+     * Método que carga un resultado mapeando sus matrices a memoria.
+     * El mapeo es de solo lectura: el resultado cargado sirve consultas, pero no admite compute().
+     * @param path Archivo a cargar.
+     * @param verify Si es true se recorre el archivo completo para validar el checksum.
+     * @return Resultado cargado.
+     * @throws IOException Si el archivo no se puede leer o está dañado.
+     */
+    public static FloydFile load(Path path, boolean verify) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("El archivo no es un resultado de Floyd: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Versión de archivo no soportada: " + version);
+            }
+            int n = header.getInt();
+            long expectedChecksum = header.getLong();
+            int namesLength = header.getInt();
+            // Se valida antes de reservar o multiplicar nada: n * n * 8 bytes (dos matrices) debe caber en el archivo.
+            if (n < 0 || namesLength < 0 || namesLength > channel.size() - HEADER_BYTES
+                    || (long) n * n > channel.size() / (2 * Integer.BYTES)) {
+                throw new IOException("Cabecera inválida en " + path);
+            }
+
+            long matrixOffset = HEADER_BYTES + namesLength + padding(HEADER_BYTES + namesLength);
+            long matrixBytes = (long) n * n * Integer.BYTES;
+            if (channel.size() != matrixOffset + 2 * matrixBytes) {
+                throw new IOException("Tamaño de archivo inesperado: " + path);
+            }
+
+            ByteBuffer names = ByteBuffer.allocate(namesLength).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, names, HEADER_BYTES);
+            names.flip();
+
+            ByteBuffer[] distChunks = mapMatrix(channel, n, matrixOffset);
+            ByteBuffer[] nextChunks = mapMatrix(channel, n, matrixOffset + matrixBytes);
+
+            if (verify) {
+                CRC32 crc = new CRC32();
+                crc.update(names.duplicate());
+                for (ByteBuffer chunk : distChunks) crc.update(chunk.duplicate());
+                for (ByteBuffer chunk : nextChunks) crc.update(chunk.duplicate());
+                if (crc.getValue() != expectedChecksum) {
+                    throw new IOException("Checksum inválido en " + path);
+                }
+            }
+
+            Floyd floyd = new Floyd(new OffHeapIntMatrix(n, distChunks), new OffHeapIntMatrix(n, nextChunks));
+            return new FloydFile(floyd, decodeNames(names, n));
+        }
+    }
+
+    /**
+     * Método que mapea una matriz en bloques de filas compatibles con OffHeapIntMatrix.
+     */
+    private static ByteBuffer[] mapMatrix(FileChannel channel, int n, long offset) throws IOException {
+        int rowsPerChunk = OffHeapIntMatrix.rowsPerChunk(n);
+        ByteBuffer[] chunks = new ByteBuffer[OffHeapIntMatrix.chunkCount(n)];
+        for (int c = 0; c < chunks.length; c++) {
+            int rows = Math.min(rowsPerChunk, n - c * rowsPerChunk);
+            long start = offset + (long) c * rowsPerChunk * n * Integer.BYTES;
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, start, (long) rows * n * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks;
+    }
+
+    /**
+     * Método que escribe una matriz fila por fila usando un buffer intermedio.
+     */
+    private static void writeMatrix(FileChannel channel, IntMatrix matrix, ByteBuffer buffer, CRC32 crc)
+            throws IOException {
+        int n = matrix.size();
+        buffer.clear();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (buffer.remaining() < Integer.BYTES) {
+                    flush(channel, buffer, crc);
+                }
+                buffer.putInt(matrix.get(i, j));
+            }
+        }
+        flush(channel, buffer, crc);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        writeFully(channel, buffer);
+        buffer.clear();
+    }
+
+    private static ByteBuffer encodeNames(String[] vertexNames) {
+        byte[][] encoded = new byte[vertexNames.length][];
+        int total = 0;
+        for (int i = 0; i < vertexNames.length; i++) {
+            encoded[i] = vertexNames[i].getBytes(StandardCharsets.UTF_8);
+            total += Integer.BYTES + encoded[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(total).order(ByteOrder.LITTLE_ENDIAN);
+        for (byte[] name : encoded) {
+            buffer.putInt(name.length).put(name);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String[] decodeNames(ByteBuffer buffer, int n) throws IOException {
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++) {
+            if (buffer.remaining() < Integer.BYTES) {
+                throw new IOException("Tabla de nombres incompleta");
+            }
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IOException("Tabla de nombres dañada");
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            names[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private static int padding(long position) {
+        return (int) ((8 - (position % 8)) % 8);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Fin de archivo inesperado");
+            }
+        }
+    }
+}
@@ -0,0 +1,375 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Historial de versiones de resultados de Floyd con bloques de filas compartidos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.*;
+
+/**
+ * Guarda varias generaciones de un resultado de Floyd para comparar rutas antes y después de un cambio
+ * en la red y volver atrás. Las matrices dist y next se dividen en bloques de filas; al guardar una
+ * generación, los bloques que no cambiaron respecto a la anterior se comparten por referencia
+ * (copy-on-write), así que la memoria crece con los bloques modificados y no con una copia V² por versión.
+ * diff() solo compara los bloques que no son compartidos.
+ * Se conservan como máximo maxGenerations generaciones; al superarlo se descarta la más antigua.
+ */
+public class FloydHistory {
+    private final int rowsPerBlock;
+    private final int maxGenerations;
+    private final ArrayDeque<Generation> generations = new ArrayDeque<>();
+    private long nextVersion = 1;
+
+    /**
+     * Generación inmutable del resultado.
+     */
+    public static class Generation {
+        private final long version;
+        private final int V;
+        private final int rowsPerBlock;
+        private final int[][] distBlocks;
+        private final int[][] nextBlocks;
+
+        private Generation(long version, int V, int rowsPerBlock, int[][] distBlocks, int[][] nextBlocks) {
+            this.version = version;
+            this.V = V;
+            this.rowsPerBlock = rowsPerBlock;
+            this.distBlocks = distBlocks;
+            this.nextBlocks = nextBlocks;
+        }
+
+        /**
+         * Método que devuelve el número de versión (creciente desde 1).
+         * @return Versión.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * Método que devuelve el número de vértices.
+         * @return Número de vértices.
+         */
+        public int size() {
+            return V;
+        }
+
+        /**
+         * Método que obtiene la distancia más corta en esta generación.
+         * @param i Índice del origen.
+         * @param j Índice del destino.
+         * @return Distancia, o Integer.MAX_VALUE si no hay camino.
+         */
+        public int getDistance(int i, int j) {
+            return distBlocks[i / rowsPerBlock][(i % rowsPerBlock) * V + j];
+        }
+
+        private int next(int i, int j) {
+            return nextBlocks[i / rowsPerBlock][(i % rowsPerBlock) * V + j];
+        }
+
+        /**
+         * Método que obtiene el camino más corto en esta generación.
+         * @param i Índice del origen.
+         * @param j Índice del destino.
+         * @return Lista de índices del camino, o null si no hay camino.
+         */
+        public List<Integer> getPath(int i, int j) {
+            if (i == j) {
+                List<Integer> path = new ArrayList<>();
+                path.add(i);
+                return path;
+            }
+            if (getDistance(i, j) == Integer.MAX_VALUE || next(i, j) == -1) {
+                return null;
+            }
+
+            List<Integer> path = new ArrayList<>();
+            path.add(i);
+            while (i != j) {
+                i = next(i, j);
+                path.add(i);
+            }
+            return path;
+        }
+
+        /**
+         * Método que reconstruye un Floyd independiente con esta generación, para seguir
+         * actualizándolo (por ejemplo, al deshacer una edición).
+         * @return Nueva instancia con copias de dist y next.
+         */
+        public Floyd restore() {
+            int[] dist = new int[HeapIntMatrix.checkedLength(V)];
+            int[] next = new int[dist.length];
+            for (int b = 0; b < distBlocks.length; b++) {
+                int offset = b * rowsPerBlock * V;
+                System.arraycopy(distBlocks[b], 0, dist, offset, distBlocks[b].length);
+                System.arraycopy(nextBlocks[b], 0, next, offset, nextBlocks[b].length);
+            }
+            return new Floyd(new HeapIntMatrix(V, dist), new HeapIntMatrix(V, next));
+        }
+    }
+
+    /**
+     * Diferencias entre dos generaciones: pares (origen, destino) cuya distancia o camino cambió.
+     */
+    public static class Diff {
+        private final int changedBlocks;
+        private int count;
+        private int[] origins = new int[16];
+        private int[] destinations = new int[16];
+        private int[] before = new int[16];
+        private int[] after = new int[16];
+
+        private Diff(int changedBlocks) {
+            this.changedBlocks = changedBlocks;
+        }
+
+        private void add(int i, int j, int oldDist, int newDist) {
+            if (count == origins.length) {
+                int capacity = count * 2;
+                origins = Arrays.copyOf(origins, capacity);
+                destinations = Arrays.copyOf(destinations, capacity);
+                before = Arrays.copyOf(before, capacity);
+                after = Arrays.copyOf(after, capacity);
+            }
+            origins[count] = i;
+            destinations[count] = j;
+            before[count] = oldDist;
+            after[count++] = newDist;
+        }
+
+        /**
+         * Método que devuelve el número de pares que cambiaron.
+         * @return Número de cambios.
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * Método que devuelve cuántos bloques de filas no eran compartidos y se compararon.
+         * @return Número de bloques comparados.
+         */
+        public int getChangedBlocks() {
+            return changedBlocks;
+        }
+
+        /**
+         * @param k Índice del cambio.
+         * @return Origen del par.
+         */
+        public int origin(int k) {
+            return origins[k];
+        }
+
+        /**
+         * @param k Índice del cambio.
+         * @return Destino del par.
+         */
+        public int destination(int k) {
+            return destinations[k];
+        }
+
+        /**
+         * @param k Índice del cambio.
+         * @return Distancia en la generación antigua.
+         */
+        public int before(int k) {
+            return before[k];
+        }
+
+        /**
+         * @param k Índice del cambio.
+         * @return Distancia en la generación nueva.
+         */
+        public int after(int k) {
+            return after[k];
+        }
+    }
+
+    /**
+     * Constructor que configura el historial.
+     * @param rowsPerBlock Filas por bloque; bloques más pequeños comparten más pero ocupan más referencias.
+     * @param maxGenerations Número máximo de generaciones conservadas.
+     */
+    public FloydHistory(int rowsPerBlock, int maxGenerations) {
+        if (rowsPerBlock <= 0) {
+            throw new IllegalArgumentException("El número de filas por bloque debe ser mayor que cero");
+        }
+        if (maxGenerations <= 0) {
+            throw new IllegalArgumentException("Se debe conservar al menos una generación");
+        }
+        this.rowsPerBlock = rowsPerBlock;
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Método que guarda el estado actual de un Floyd como nueva generación. Cada bloque de filas
+     * idéntico al de la última generación se comparte en lugar de copiarse.
+     * @param floyd Resultado ya calculado; se puede seguir modificando después.
+     * @return Generación creada.
+     */
+    public synchronized Generation commit(Floyd floyd) {
+        int V = floyd.size();
+        Generation last = generations.peekLast();
+        if (last != null && last.V != V) last = null;
+
+        IntMatrix dist = floyd.distances();
+        IntMatrix next = floyd.successors();
+        int blocks = (V + rowsPerBlock - 1) / rowsPerBlock;
+        int[][] distBlocks = new int[blocks][];
+        int[][] nextBlocks = new int[blocks][];
+        for (int b = 0; b < blocks; b++) {
+            int i0 = b * rowsPerBlock;
+            int rows = Math.min(rowsPerBlock, V - i0);
+            if (last != null && sameRows(dist, i0, rows, last.distBlocks[b])
+                    && sameRows(next, i0, rows, last.nextBlocks[b])) {
+                distBlocks[b] = last.distBlocks[b];
+                nextBlocks[b] = last.nextBlocks[b];
+            } else {
+                distBlocks[b] = copyRows(dist, i0, rows);
+                nextBlocks[b] = copyRows(next, i0, rows);
+            }
+        }
+        return append(new Generation(nextVersion++, V, rowsPerBlock, distBlocks, nextBlocks));
+    }
+
+    /**
+     * Método que vuelve a una generación anterior añadiéndola como la más reciente.
+     * No copia nada: la nueva generación comparte todos los bloques con la anterior.
+     * @param version Versión a recuperar.
+     * @return Nueva generación con el contenido de la versión indicada.
+     */
+    public synchronized Generation rollback(long version) {
+        Generation old = get(version);
+        return append(new Generation(nextVersion++, old.V, rowsPerBlock, old.distBlocks, old.nextBlocks));
+    }
+
+    private Generation append(Generation generation) {
+        generations.addLast(generation);
+        while (generations.size() > maxGenerations) {
+            generations.removeFirst();
+        }
+        return generation;
+    }
+
+    /**
+     * Método que obtiene una generación conservada.
+     * @param version Versión buscada.
+     * @return Generación.
+     */
+    public synchronized Generation get(long version) {
+        for (Generation generation : generations) {
+            if (generation.version == version) return generation;
+        }
+        throw new IllegalArgumentException("La versión " + version + " no existe o ya fue descartada");
+    }
+
+    /**
+     * Método que devuelve la generación más reciente.
+     * @return Última generación, o null si el historial está vacío.
+     */
+    public synchronized Generation latest() {
+        return generations.peekLast();
+    }
+
+    /**
+     * Método que devuelve las versiones conservadas, de la más antigua a la más reciente.
+     * @return Lista de versiones.
+     */
+    public synchronized List<Long> versions() {
+        List<Long> result = new ArrayList<>(generations.size());
+        for (Generation generation : generations) {
+            result.add(generation.version);
+        }
+        return result;
+    }
+
+    /**
+     * Método que compara dos generaciones. Los bloques compartidos se saltan sin leerlos.
+     * @param from Versión antigua.
+     * @param to Versión nueva.
+     * @return Pares cuya distancia o siguiente vértice cambió.
+     */
+    public Diff diff(long from, long to) {
+        Generation a;
+        Generation b;
+        synchronized (this) {
+            a = get(from);
+            b = get(to);
+        }
+        if (a.V != b.V) {
+            throw new IllegalArgumentException("Las generaciones tienen distinto número de vértices");
+        }
+
+        int V = a.V;
+        int changed = 0;
+        for (int blk = 0; blk < a.distBlocks.length; blk++) {
+            if (a.distBlocks[blk] != b.distBlocks[blk] || a.nextBlocks[blk] != b.nextBlocks[blk]) changed++;
+        }
+
+        Diff diff = new Diff(changed);
+        for (int blk = 0; blk < a.distBlocks.length; blk++) {
+            int[] da = a.distBlocks[blk];
+            int[] db = b.distBlocks[blk];
+            int[] na = a.nextBlocks[blk];
+            int[] nb = b.nextBlocks[blk];
+            if (da == db && na == nb) continue;
+
+            for (int x = 0; x < da.length; x++) {
+                if (da[x] != db[x] || na[x] != nb[x]) {
+                    diff.add(blk * rowsPerBlock + x / V, x % V, da[x], db[x]);
+                }
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Método que calcula la memoria de las matrices conservadas, contando una sola vez cada bloque compartido.
+     * @return Bytes ocupados por los bloques de dist y next.
+     */
+    public synchronized long getRetainedBytes() {
+        Set<int[]> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+        for (Generation generation : generations) {
+            for (int b = 0; b < generation.distBlocks.length; b++) {
+                if (seen.add(generation.distBlocks[b])) bytes += (long) generation.distBlocks[b].length * Integer.BYTES;
+                if (seen.add(generation.nextBlocks[b])) bytes += (long) generation.nextBlocks[b].length * Integer.BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean sameRows(IntMatrix matrix, int i0, int rows, int[] block) {
+        int V = matrix.size();
+        if (matrix instanceof HeapIntMatrix) {
+            int from = i0 * V;
+            return Arrays.equals(((HeapIntMatrix) matrix).array(), from, from + rows * V, block, 0, block.length);
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < V; j++) {
+                if (block[i * V + j] != matrix.get(i0 + i, j)) return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] copyRows(IntMatrix matrix, int i0, int rows) {
+        int V = matrix.size();
+        int[] block = new int[rows * V];
+        if (matrix instanceof HeapIntMatrix) {
+            System.arraycopy(((HeapIntMatrix) matrix).array(), i0 * V, block, 0, block.length);
+            return block;
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < V; j++) {
+                block[i * V + j] = matrix.get(i0 + i, j);
+            }
+        }
+        return block;
+    }
+}
@@ -0,0 +1,331 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Contadores, histogramas y eventos JFR del cálculo y las consultas de Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Instrumentación de Floyd. Está desactivada salvo que se arranque con -Dfloyd.metrics=true;
+ * como ENABLED es una constante, el JIT elimina los ganchos por completo cuando está desactivada.
+ * Con la instrumentación activa:
+ * <ul>
+ *   <li>los contadores e histogramas se publican por JMX como "floyd:type=FloydMetrics";</li>
+ *   <li>las variantes por bloques acumulan además el tiempo de cada fase (bloque diagonal, paneles
+ *       del pivote y bloques restantes);</li>
+ *   <li>cada cálculo emite el evento JFR floyd.Compute, y cada getPath() el evento floyd.PathQuery
+ *       (desactivado por defecto en la configuración de JFR por su volumen).</li>
+ * </ul>
+ */
+public final class FloydMetrics implements FloydMetricsMBean {
+    /** Indica si la instrumentación está activa (propiedad del sistema floyd.metrics). */
+    public static final boolean ENABLED = Boolean.getBoolean("floyd.metrics");
+
+    /** Nombre JMX con el que se registran las métricas. */
+    public static final String OBJECT_NAME = "floyd:type=FloydMetrics";
+
+    private static final LatencyHistogram computeNanos = new LatencyHistogram();
+    private static final LatencyHistogram stepRelaxations = new LatencyHistogram();
+    private static final LongAdder relaxations = new LongAdder();
+    private static final LatencyHistogram distanceNanos = new LatencyHistogram();
+    private static final LatencyHistogram pathNanos = new LatencyHistogram();
+    private static final LatencyHistogram pathLengths = new LatencyHistogram();
+    private static final LongAdder[] phaseNanos = {new LongAdder(), new LongAdder(), new LongAdder()};
+
+    /** Fase 1 de las variantes por bloques: el bloque diagonal del pivote. */
+    static final int PHASE_DIAGONAL = 0;
+
+    /** Fase 2 de las variantes por bloques: los paneles de fila y columna del pivote. */
+    static final int PHASE_PANELS = 1;
+
+    /** Fase 3 de las variantes por bloques: los bloques restantes. */
+    static final int PHASE_REMAINDER = 2;
+
+    static {
+        if (ENABLED) {
+            try {
+                register();
+            } catch (JMException e) {
+                System.err.println("No se pudieron registrar las métricas por JMX: " + e.getMessage());
+            }
+        }
+    }
+
+    private FloydMetrics() {
+    }
+
+    /**
+     * Método que registra las métricas en el servidor JMX de la plataforma, si no lo están ya.
+     * @return Nombre con el que quedaron registradas.
+     * @throws JMException Si el registro falla.
+     */
+    static synchronized ObjectName register() throws JMException {
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new FloydMetrics(), name);
+        }
+        return name;
+    }
+
+    /**
+     * Evento JFR de un cálculo completo.
+     */
+    @Name("floyd.Compute")
+    @Label("Cálculo de Floyd")
+    @Category("Floyd")
+    public static final class ComputeEvent extends Event {
+        @Label("Variante")
+        String variant;
+
+        @Label("Vértices")
+        int vertices;
+
+        @Label("Relajaciones")
+        long relaxations;
+
+        @Label("Duración")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+    /**
+     * Evento JFR de una consulta de camino.
+     */
+    @Name("floyd.PathQuery")
+    @Label("Consulta de camino")
+    @Category("Floyd")
+    @Enabled(false)
+    public static final class PathQueryEvent extends Event {
+        @Label("Origen")
+        int origin;
+
+        @Label("Destino")
+        int destination;
+
+        @Label("Vértices del camino")
+        int length;
+
+        @Label("Duración")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+    /**
+     * Método que devuelve el instante inicial de una medición.
+     * @return System.nanoTime() si la instrumentación está activa, 0 si no.
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Método que registra las relajaciones exitosas de un paso k.
+     * @param count Número de relajaciones que mejoraron una distancia.
+     */
+    static void recordStep(long count) {
+        stepRelaxations.record(count);
+        relaxations.add(count);
+    }
+
+    /**
+     * Método que registra relajaciones exitosas que no corresponden a un paso k completo (bloques).
+     * @param count Número de relajaciones que mejoraron una distancia.
+     */
+    static void recordRelaxations(long count) {
+        relaxations.add(count);
+    }
+
+    /**
+     * Método que suma el tiempo de una fase de las variantes por bloques.
+     * @param phase PHASE_DIAGONAL, PHASE_PANELS o PHASE_REMAINDER.
+     * @param start Instante en que empezó la fase (System.nanoTime()).
+     * @return Instante actual, para encadenar la fase siguiente.
+     */
+    static long recordPhase(int phase, long start) {
+        long now = System.nanoTime();
+        phaseNanos[phase].add(now - start);
+        return now;
+    }
+
+    /**
+     * Método que registra el fin de un cálculo completo.
+     * @param variant Nombre del método de cálculo.
+     * @param vertices Número de vértices.
+     * @param relaxed Relajaciones exitosas, o -1 si la variante no las cuenta.
+     * @param start Valor devuelto por start().
+     */
+    static void recordCompute(String variant, int vertices, long relaxed, long start) {
+        long elapsed = System.nanoTime() - start;
+        computeNanos.record(elapsed);
+
+        ComputeEvent event = new ComputeEvent();
+        if (event.shouldCommit()) {
+            event.variant = variant;
+            event.vertices = vertices;
+            event.relaxations = relaxed;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Método que registra una consulta de distancia.
+     * @param start Valor devuelto por start().
+     */
+    static void recordDistance(long start) {
+        distanceNanos.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Método que registra una consulta de camino.
+     * @param origin Vértice de origen.
+     * @param destination Vértice de destino.
+     * @param length Número de vértices del camino (0 si no hay camino).
+     * @param start Valor devuelto por start().
+     */
+    static void recordPath(int origin, int destination, int length, long start) {
+        long elapsed = System.nanoTime() - start;
+        pathNanos.record(elapsed);
+        pathLengths.record(length);
+
+        PathQueryEvent event = new PathQueryEvent();
+        if (event.shouldCommit()) {
+            event.origin = origin;
+            event.destination = destination;
+            event.length = length;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Método que devuelve el histograma de tiempos de cálculo.
+     * @return Histograma en nanosegundos.
+     */
+    public static LatencyHistogram computeHistogram() {
+        return computeNanos;
+    }
+
+    /**
+     * Método que devuelve el histograma de tiempos de getPath().
+     * @return Histograma en nanosegundos.
+     */
+    public static LatencyHistogram pathHistogram() {
+        return pathNanos;
+    }
+
+    /**
+     * Método que devuelve el histograma de tiempos de getDistance().
+     * @return Histograma en nanosegundos.
+     */
+    public static LatencyHistogram distanceHistogram() {
+        return distanceNanos;
+    }
+
+    @Override
+    public long getComputeCount() {
+        return computeNanos.getCount();
+    }
+
+    @Override
+    public long getComputeNanosP50() {
+        return computeNanos.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getComputeNanosMax() {
+        return computeNanos.getMax();
+    }
+
+    @Override
+    public long getRelaxations() {
+        return relaxations.sum();
+    }
+
+    @Override
+    public long getStepRelaxationsP50() {
+        return stepRelaxations.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getStepRelaxationsMax() {
+        return stepRelaxations.getMax();
+    }
+
+    @Override
+    public long getDiagonalPhaseNanos() {
+        return phaseNanos[PHASE_DIAGONAL].sum();
+    }
+
+    @Override
+    public long getPanelPhaseNanos() {
+        return phaseNanos[PHASE_PANELS].sum();
+    }
+
+    @Override
+    public long getRemainderPhaseNanos() {
+        return phaseNanos[PHASE_REMAINDER].sum();
+    }
+
+    @Override
+    public long getDistanceQueries() {
+        return distanceNanos.getCount();
+    }
+
+    @Override
+    public long getDistanceNanosP99() {
+        return distanceNanos.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getPathQueries() {
+        return pathNanos.getCount();
+    }
+
+    @Override
+    public long getPathNanosP50() {
+        return pathNanos.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getPathNanosP99() {
+        return pathNanos.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getPathLengthP50() {
+        return pathLengths.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getPathLengthMax() {
+        return pathLengths.getMax();
+    }
+
+    @Override
+    public void reset() {
+        computeNanos.reset();
+        stepRelaxations.reset();
+        relaxations.reset();
+        distanceNanos.reset();
+        pathNanos.reset();
+        pathLengths.reset();
+        for (LongAdder phase : phaseNanos) {
+            phase.reset();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Interfaz JMX de las métricas de Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+/**
+ * Atributos que FloydMetrics publica por JMX (objeto "floyd:type=FloydMetrics").
+ * Los tiempos están en nanosegundos.
+ */
+public interface FloydMetricsMBean {
+
+    /** @return Número de cálculos completos ejecutados. */
+    long getComputeCount();
+
+    /** @return Mediana del tiempo de cálculo. */
+    long getComputeNanosP50();
+
+    /** @return Tiempo máximo de cálculo. */
+    long getComputeNanosMax();
+
+    /** @return Relajaciones que mejoraron una distancia, sumadas en todos los cálculos. */
+    long getRelaxations();
+
+    /** @return Mediana de relajaciones exitosas por paso k. */
+    long getStepRelaxationsP50();
+
+    /** @return Máximo de relajaciones exitosas en un paso k. */
+    long getStepRelaxationsMax();
+
+    /** @return Tiempo acumulado en la fase del bloque diagonal (variantes por bloques). */
+    long getDiagonalPhaseNanos();
+
+    /** @return Tiempo acumulado en la fase de paneles de fila y columna del pivote (variantes por bloques). */
+    long getPanelPhaseNanos();
+
+    /** @return Tiempo acumulado en la fase de bloques restantes (variantes por bloques). */
+    long getRemainderPhaseNanos();
+
+    /** @return Número de consultas de distancia. */
+    long getDistanceQueries();
+
+    /** @return Percentil 99 del tiempo de una consulta de distancia. */
+    long getDistanceNanosP99();
+
+    /** @return Número de consultas de camino. */
+    long getPathQueries();
+
+    /** @return Mediana del tiempo de una consulta de camino. */
+    long getPathNanosP50();
+
+    /** @return Percentil 99 del tiempo de una consulta de camino. */
+    long getPathNanosP99();
+
+    /** @return Mediana del número de vértices de los caminos devueltos. */
+    long getPathLengthP50();
+
+    /** @return Número máximo de vértices de un camino devuelto. */
+    long getPathLengthMax();
+
+    /** Borra todos los contadores e histogramas. */
+    void reset();
+}
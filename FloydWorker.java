@@ -0,0 +1,294 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Proceso trabajador que calcula su parte de los bloques de PartitionedFloyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * Trabajador de PartitionedFloyd. Se conecta al coordinador, recibe los bloques de la matriz que le
+ * corresponden (las filas de bloques ib con ib % rows == r y las columnas jb con jb % cols == c) y,
+ * en cada ronda, recibe solo los trozos de los paneles del pivote que cruzan sus bloques y aplica
+ * la fase 3 de Floyd por bloques. Después devuelve los bloques del panel de la ronda siguiente.
+ *
+ * Uso como proceso independiente: java FloydWorker &lt;host&gt; &lt;puerto&gt;
+ */
+public class FloydWorker {
+    static final int ROUND = 1;
+    static final int COLLECT = 2;
+
+    private final Link link;
+    private final int V;
+    private final int blockSize;
+    private final int rows;
+    private final int cols;
+    private final int r;
+    private final int c;
+    private final int[] myRows;
+    private final int[] myCols;
+    private final int[][] tileDist;
+    private final int[][] tileNext;
+
+    private FloydWorker(Link link) throws IOException {
+        this.link = link;
+        this.V = link.readInt();
+        this.blockSize = link.readInt();
+        this.rows = link.readInt();
+        this.cols = link.readInt();
+        this.r = link.readInt();
+        this.c = link.readInt();
+
+        int blocks = (V + blockSize - 1) / blockSize;
+        this.myRows = owned(blocks, rows, r);
+        this.myCols = owned(blocks, cols, c);
+        this.tileDist = new int[myRows.length * myCols.length][];
+        this.tileNext = new int[tileDist.length][];
+
+        for (int ri = 0; ri < myRows.length; ri++) {
+            for (int ci = 0; ci < myCols.length; ci++) {
+                int t = ri * myCols.length + ci;
+                int i0 = myRows[ri] * blockSize;
+                int j0 = myCols[ci] * blockSize;
+                int w = extent(myCols[ci]);
+                tileDist[t] = link.readInts(extent(myRows[ri]) * w);
+                tileNext[t] = initialNext(tileDist[t], i0, j0, w);
+            }
+        }
+    }
+
+    /**
+     * Método principal para ejecutar el trabajador como proceso independiente.
+     * @param args Host y puerto del coordinador.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: java FloydWorker <host> <puerto>");
+            System.exit(2);
+        }
+        run(args[0], Integer.parseInt(args[1]));
+    }
+
+    /**
+     * Método que se conecta al coordinador y atiende sus órdenes hasta que recoge el resultado.
+     * @param host Host del coordinador.
+     * @param port Puerto del coordinador.
+     * @throws IOException Si se pierde la conexión.
+     */
+    public static void run(String host, int port) throws IOException {
+        try (Link link = new Link(new Socket(host, port))) {
+            new FloydWorker(link).serve();
+        }
+    }
+
+    private void serve() throws IOException {
+        while (true) {
+            int command = link.readInt();
+            if (command == ROUND) {
+                round(link.readInt());
+            } else if (command == COLLECT) {
+                for (int t = 0; t < tileDist.length; t++) {
+                    link.writeInts(tileDist[t]);
+                    link.writeInts(tileNext[t]);
+                }
+                link.flush();
+                return;
+            } else {
+                throw new IOException("Orden desconocida del coordinador: " + command);
+            }
+        }
+    }
+
+    /**
+     * Método que aplica una ronda: copia los paneles del pivote kb ya calculados por el coordinador,
+     * relaja el resto de sus bloques y envía los bloques del panel kb + 1.
+     * @param kb Bloque pivote.
+     */
+    private void round(int kb) throws IOException {
+        int kw = extent(kb);
+        int[][] rowDist = new int[myCols.length][];
+        int[][] rowNext = new int[myCols.length][];
+        int[][] colDist = new int[myRows.length][];
+        int[][] colNext = new int[myRows.length][];
+        for (int ci = 0; ci < myCols.length; ci++) {
+            rowDist[ci] = link.readInts(kw * extent(myCols[ci]));
+            rowNext[ci] = link.readInts(rowDist[ci].length);
+        }
+        for (int ri = 0; ri < myRows.length; ri++) {
+            colDist[ri] = link.readInts(extent(myRows[ri]) * kw);
+            colNext[ri] = link.readInts(colDist[ri].length);
+        }
+
+        for (int ri = 0; ri < myRows.length; ri++) {
+            for (int ci = 0; ci < myCols.length; ci++) {
+                int t = ri * myCols.length + ci;
+                if (myRows[ri] == kb) {
+                    tileDist[t] = rowDist[ci];
+                    tileNext[t] = rowNext[ci];
+                } else if (myCols[ci] == kb) {
+                    tileDist[t] = colDist[ri];
+                    tileNext[t] = colNext[ri];
+                } else {
+                    relax(kw, extent(myRows[ri]), extent(myCols[ci]),
+                            colDist[ri], colNext[ri], rowDist[ci], tileDist[t], tileNext[t]);
+                }
+            }
+        }
+
+        int nextKb = kb + 1;
+        if (nextKb * blockSize < V) {
+            // Mismo orden que espera el coordinador: primero la fila nextKb y luego la columna sin la diagonal.
+            for (int ri = 0; ri < myRows.length; ri++) {
+                if (myRows[ri] != nextKb) continue;
+                for (int ci = 0; ci < myCols.length; ci++) {
+                    link.writeInts(tileDist[ri * myCols.length + ci]);
+                    link.writeInts(tileNext[ri * myCols.length + ci]);
+                }
+            }
+            for (int ci = 0; ci < myCols.length; ci++) {
+                if (myCols[ci] != nextKb) continue;
+                for (int ri = 0; ri < myRows.length; ri++) {
+                    if (myRows[ri] == nextKb) continue;
+                    link.writeInts(tileDist[ri * myCols.length + ci]);
+                    link.writeInts(tileNext[ri * myCols.length + ci]);
+                }
+            }
+        } else {
+            link.writeInt(0);
+        }
+        link.flush();
+    }
+
+    private int extent(int block) {
+        return Math.min(blockSize, V - block * blockSize);
+    }
+
+    /**
+     * Método que lista los bloques que le tocan a una fila o columna de la rejilla de trabajadores.
+     * @param blocks Número de bloques por lado.
+     * @param gridSize Número de filas (o columnas) de la rejilla.
+     * @param position Fila (o columna) del trabajador en la rejilla.
+     * @return Índices de bloque en orden creciente.
+     */
+    static int[] owned(int blocks, int gridSize, int position) {
+        int count = 0;
+        for (int b = position; b < blocks; b += gridSize) count++;
+        int[] result = new int[count];
+        for (int b = position, x = 0; b < blocks; b += gridSize) {
+            result[x++] = b;
+        }
+        return result;
+    }
+
+    /**
+     * Método que calcula la matriz de siguientes inicial de un bloque, igual que el constructor de Floyd.
+     * @param dist Distancias del bloque (row-major, ancho w).
+     * @param i0 Primera fila global del bloque.
+     * @param j0 Primera columna global del bloque.
+     * @param w Ancho del bloque.
+     * @return Siguientes del bloque, con índices globales.
+     */
+    static int[] initialNext(int[] dist, int i0, int j0, int w) {
+        int[] next = new int[dist.length];
+        for (int x = 0; x < dist.length; x++) {
+            int i = i0 + x / w;
+            int j = j0 + x % w;
+            next[x] = (dist[x] != Integer.MAX_VALUE && i != j) ? j : -1;
+        }
+        return next;
+    }
+
+    /**
+     * Método que relaja el bloque c (rows x cols) pasando por los kw pivotes del bloque pivote,
+     * con el mismo orden de bucles que Floyd.relaxTile(). a contiene dist(i, k) y next(i, k)
+     * (rows x kw) y b contiene dist(k, j) (kw x cols). a y b pueden ser el mismo arreglo que c.
+     */
+    static void relax(int kw, int rows, int cols, int[] aDist, int[] aNext, int[] bDist, int[] cDist, int[] cNext) {
+        for (int k = 0; k < kw; k++) {
+            int pivotOffset = k * cols;
+            for (int i = 0; i < rows; i++) {
+                int dik = aDist[i * kw + k];
+                if (dik == Integer.MAX_VALUE) continue;
+                int nik = aNext[i * kw + k];
+                int rowOffset = i * cols;
+
+                for (int j = 0; j < cols; j++) {
+                    int dkj = bDist[pivotOffset + j];
+                    if (dkj != Integer.MAX_VALUE && dik <= Integer.MAX_VALUE - dkj) {
+                        int newDist = dik + dkj;
+                        int dij = cDist[rowOffset + j];
+                        if (dij == Integer.MAX_VALUE || newDist < dij) {
+                            cDist[rowOffset + j] = newDist;
+                            cNext[rowOffset + j] = nik;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Conexión con búfer que envía y recibe arreglos de int en bloque.
+     */
+    static final class Link implements Closeable {
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final byte[] bytes = new byte[BUFFER_BYTES];
+        private final IntBuffer ints = ByteBuffer.wrap(bytes).order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+
+        Link(Socket socket) throws IOException {
+            this.socket = socket;
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_BYTES));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_BYTES));
+        }
+
+        int readInt() throws IOException {
+            return in.readInt();
+        }
+
+        void writeInt(int value) throws IOException {
+            out.writeInt(value);
+        }
+
+        int[] readInts(int count) throws IOException {
+            int[] values = new int[count];
+            for (int from = 0; from < count; ) {
+                int n = Math.min(count - from, BUFFER_BYTES / Integer.BYTES);
+                in.readFully(bytes, 0, n * Integer.BYTES);
+                ints.clear();
+                ints.get(values, from, n);
+                from += n;
+            }
+            return values;
+        }
+
+        void writeInts(int[] values) throws IOException {
+            for (int from = 0; from < values.length; ) {
+                int n = Math.min(values.length - from, BUFFER_BYTES / Integer.BYTES);
+                ints.clear();
+                ints.put(values, from, n);
+                out.write(bytes, 0, n * Integer.BYTES);
+                from += n;
+            }
+        }
+
+        void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
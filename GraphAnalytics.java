@@ -0,0 +1,358 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Métricas de centralidad calculadas en paralelo sobre el resultado de Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Calcula en una sola pasada paralela sobre la matriz de distancias la excentricidad y la cercanía
+ * de cada vértice, y a partir de ellas el radio, el diámetro, el centro, la periferia y los k vértices
+ * más centrales. La intermediación (betweenness) se calcula aparte a partir de la matriz de siguientes.
+ * La excentricidad sigue el mismo criterio que Floyd.findGraphCenter(): solo cuenta los vértices
+ * alcanzables, y un vértice que no alcanza a ningún otro tiene excentricidad Integer.MAX_VALUE.
+ */
+public class GraphAnalytics {
+    /** Número de columnas de next que se copian juntas al calcular la intermediación. */
+    private static final int COLUMN_BLOCK = 16;
+
+    private final Floyd floyd;
+    private final int V;
+    private final int parallelism;
+
+    private final int[] eccentricities;
+    private final double[] closeness;
+    private final int radius;
+    private final int diameter;
+    private volatile long[] betweenness;
+
+    /**
+     * Resultado parcial de un tramo de filas, que luego se combina con los demás.
+     */
+    private static class Partial {
+        private int minEccentricity = Integer.MAX_VALUE;
+        private int maxEccentricity = -1;
+    }
+
+    /**
+     * Constructor que calcula las métricas basadas en distancias.
+     * @param floyd Resultado de Floyd ya calculado.
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public GraphAnalytics(Floyd floyd, int parallelism) {
+        this.floyd = floyd;
+        this.V = floyd.size();
+        this.parallelism = parallelism;
+        this.eccentricities = new int[V];
+        this.closeness = new double[V];
+
+        IntMatrix dist = floyd.distances();
+        int chunks = chunkCount(V, parallelism);
+        Partial[] partials = new Partial[chunks];
+
+        ForkJoinPool pool = Floyd.createPool(parallelism);
+        try {
+            Floyd.runParallel(pool, chunks, c -> {
+                Partial partial = new Partial();
+                int end = chunkEnd(c, chunks, V);
+                for (int i = chunkStart(c, chunks, V); i < end; i++) {
+                    int maxDist = 0;
+                    int reachable = 0;
+                    long sum = 0;
+                    for (int j = 0; j < V; j++) {
+                        int d = dist.get(i, j);
+                        if (i != j && d != Integer.MAX_VALUE) {
+                            if (d > maxDist) maxDist = d;
+                            reachable++;
+                            sum += d;
+                        }
+                    }
+
+                    int eccentricity = reachable > 0 ? maxDist : Integer.MAX_VALUE;
+                    eccentricities[i] = eccentricity;
+                    // Cercanía de Wasserman-Faust: válida también en grafos no fuertemente conexos.
+                    // Con aristas de peso 0 un vértice puede alcanzar a otros a distancia total 0: es la
+                    // mejor cercanía posible, no la peor.
+                    if (reachable == 0) {
+                        closeness[i] = 0.0;
+                    } else if (sum == 0) {
+                        closeness[i] = Double.POSITIVE_INFINITY;
+                    } else {
+                        closeness[i] = ((double) reachable / (V - 1)) * ((double) reachable / sum);
+                    }
+                    if (reachable > 0) {
+                        partial.minEccentricity = Math.min(partial.minEccentricity, eccentricity);
+                        partial.maxEccentricity = Math.max(partial.maxEccentricity, eccentricity);
+                    }
+                }
+                partials[c] = partial;
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        int minEccentricity = Integer.MAX_VALUE;
+        int maxEccentricity = -1;
+        for (Partial partial : partials) {
+            minEccentricity = Math.min(minEccentricity, partial.minEccentricity);
+            maxEccentricity = Math.max(maxEccentricity, partial.maxEccentricity);
+        }
+        this.radius = minEccentricity;
+        this.diameter = maxEccentricity < 0 ? Integer.MAX_VALUE : maxEccentricity;
+    }
+
+    /**
+     * Método que devuelve la excentricidad de un vértice.
+     * @param i Índice del vértice.
+     * @return Distancia máxima a un vértice alcanzable, o Integer.MAX_VALUE si no alcanza a ninguno.
+     */
+    public int getEccentricity(int i) {
+        return eccentricities[i];
+    }
+
+    /**
+     * Método que devuelve el radio del grafo (excentricidad mínima).
+     * @return Radio, o Integer.MAX_VALUE si ningún vértice alcanza a otro.
+     */
+    public int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Método que devuelve el diámetro del grafo (excentricidad máxima entre los vértices que alcanzan a otro).
+     * @return Diámetro, o Integer.MAX_VALUE si ningún vértice alcanza a otro.
+     */
+    public int getDiameter() {
+        return diameter;
+    }
+
+    /**
+     * Método que devuelve los vértices centrales (excentricidad igual al radio), en orden de índice.
+     * @return Índices de los vértices centrales.
+     */
+    public int[] getCenter() {
+        return withEccentricity(radius);
+    }
+
+    /**
+     * Método que devuelve el nombre del centro del grafo con el mismo criterio que Floyd.findGraphCenter().
+     * @param vertexNames Array de nombres de los vértices.
+     * @return Nombre del primer vértice central, o null si no hay ninguno.
+     */
+    public String getCenterName(String[] vertexNames) {
+        if (vertexNames == null || vertexNames.length != V) {
+            throw new IllegalArgumentException("El array de nombres no coincide con el tamaño del grafo");
+        }
+        int[] center = getCenter();
+        return center.length == 0 ? null : vertexNames[center[0]];
+    }
+
+    /**
+     * Método que devuelve los vértices periféricos (excentricidad igual al diámetro), en orden de índice.
+     * @return Índices de los vértices periféricos.
+     */
+    public int[] getPeriphery() {
+        return withEccentricity(diameter);
+    }
+
+    /**
+     * Método que devuelve la cercanía (closeness) de un vértice, normalizada según Wasserman-Faust:
+     * (r / (V - 1)) * (r / suma de distancias), donde r es el número de vértices alcanzables.
+     * @param i Índice del vértice.
+     * @return Cercanía entre 0 y 1 (para pesos mayores o iguales a 1), 0 si no alcanza a ningún vértice
+     *         y Double.POSITIVE_INFINITY si alcanza a alguno y todos están a distancia 0.
+     */
+    public double getCloseness(int i) {
+        return closeness[i];
+    }
+
+    /**
+     * Método que devuelve los k vértices de mayor cercanía, de mayor a menor (los empates por índice).
+     * @param k Número de vértices a devolver.
+     * @return Índices de los vértices más centrales.
+     */
+    public int[] topByCloseness(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k no puede ser negativo");
+        }
+        k = Math.min(k, V);
+
+        // Montículo de mínimos con los k mejores vistos hasta ahora: O(V log k).
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.max(1, k), (a, b) -> compareCloseness(b, a));
+        for (int i = 0; i < V && k > 0; i++) {
+            if (heap.size() < k) {
+                heap.add(i);
+            } else if (compareCloseness(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        int[] top = new int[heap.size()];
+        for (int r = top.length - 1; r >= 0; r--) {
+            top[r] = heap.poll();
+        }
+        return top;
+    }
+
+    /**
+     * Método que calcula la intermediación (betweenness) de cada vértice: cuántos caminos más cortos
+     * de la matriz de siguientes pasan por él como vértice intermedio. Se cuenta un camino por par,
+     * el que reconstruye getPath().
+     * Para cada destino t, las entradas next(·, t) forman un árbol con raíz en t; el número de caminos
+     * hacia t que atraviesan x es el tamaño de su subárbol menos uno. Así el cálculo es O(V²) en total,
+     * en lugar de recorrer cada camino. Cada hilo acumula en su propio array y al final se suman.
+     * El resultado se calcula una sola vez aunque varios hilos lo pidan a la vez.
+     * @return Copia de la intermediación de cada vértice; modificarla no afecta a llamadas posteriores.
+     */
+    public long[] getBetweenness() {
+        long[] cached = betweenness;
+        if (cached == null) {
+            synchronized (this) {
+                cached = betweenness;
+                if (cached == null) {
+                    cached = computeBetweenness();
+                    betweenness = cached;
+                }
+            }
+        }
+        return cached.clone();
+    }
+
+    private long[] computeBetweenness() {
+        IntMatrix next = floyd.successors();
+        int chunks = chunkCount(V, parallelism);
+        long[][] partials = new long[chunks][];
+
+        ForkJoinPool pool = Floyd.createPool(parallelism);
+        try {
+            Floyd.runParallel(pool, chunks, c -> {
+                long[] local = new long[V];
+                int[] columns = new int[COLUMN_BLOCK * V];
+                int[] hops = new int[V];
+                int[] subtree = new int[V];
+                int[] order = new int[V];
+                int[] stack = new int[V];
+                int[] bucketStart = new int[V + 1];
+
+                int end = chunkEnd(c, chunks, V);
+                for (int t0 = chunkStart(c, chunks, V); t0 < end; t0 += COLUMN_BLOCK) {
+                    int width = Math.min(COLUMN_BLOCK, end - t0);
+                    // Copia de un bloque de columnas de next leyendo por filas, para que cada árbol
+                    // se recorra sobre memoria contigua en lugar de saltar una fila por acceso.
+                    for (int x = 0; x < V; x++) {
+                        for (int b = 0; b < width; b++) {
+                            columns[b * V + x] = next.get(x, t0 + b);
+                        }
+                    }
+                    for (int b = 0; b < width; b++) {
+                        accumulateTree(columns, b * V, t0 + b, local, hops, subtree, order, stack, bucketStart);
+                    }
+                }
+                partials[c] = local;
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        long[] result = new long[V];
+        for (long[] local : partials) {
+            for (int x = 0; x < V; x++) {
+                result[x] += local[x];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Método que suma la contribución del árbol de caminos hacia t a la intermediación.
+     * La columna t de next está copiada en next[column, column + V).
+     */
+    private void accumulateTree(int[] next, int column, int t, long[] local, int[] hops, int[] subtree,
+                                int[] order, int[] stack, int[] bucketStart) {
+        final int unknown = -2;
+        final int unreachable = -1;
+        Arrays.fill(hops, unknown);
+        hops[t] = 0;
+
+        // Número de saltos hasta t, con memoria: cada vértice se visita una vez.
+        int maxHops = 0;
+        for (int x = 0; x < V; x++) {
+            int top = 0;
+            int y = x;
+            while (hops[y] == unknown) {
+                stack[top++] = y;
+                int successor = next[column + y];
+                if (successor == -1) {
+                    hops[y] = unreachable;
+                    top--;
+                    break;
+                }
+                y = successor;
+            }
+            int h = hops[y];
+            while (top > 0) {
+                int z = stack[--top];
+                hops[z] = h == unreachable ? unreachable : ++h;
+            }
+            if (h > maxHops) maxHops = h;
+        }
+
+        // Ordenación por cuentas según los saltos, para procesar primero las hojas.
+        Arrays.fill(bucketStart, 0, maxHops + 2, 0);
+        for (int x = 0; x < V; x++) {
+            if (hops[x] > 0) bucketStart[hops[x] + 1]++;
+        }
+        for (int h = 1; h <= maxHops; h++) {
+            bucketStart[h + 1] += bucketStart[h];
+        }
+        int reached = bucketStart[maxHops + 1];
+        for (int x = 0; x < V; x++) {
+            if (hops[x] > 0) order[bucketStart[hops[x]]++] = x;
+        }
+
+        for (int x = 0; x < V; x++) {
+            subtree[x] = 1;
+        }
+        for (int r = reached - 1; r >= 0; r--) {
+            int x = order[r];
+            local[x] += subtree[x] - 1;
+            subtree[next[column + x]] += subtree[x];
+        }
+    }
+
+    private int compareCloseness(int a, int b) {
+        int cmp = Double.compare(closeness[b], closeness[a]);
+        return cmp != 0 ? cmp : Integer.compare(a, b);
+    }
+
+    private int[] withEccentricity(int value) {
+        if (value == Integer.MAX_VALUE) return new int[0];
+        int count = 0;
+        for (int i = 0; i < V; i++) {
+            if (eccentricities[i] == value) count++;
+        }
+        int[] result = new int[count];
+        int r = 0;
+        for (int i = 0; i < V; i++) {
+            if (eccentricities[i] == value) result[r++] = i;
+        }
+        return result;
+    }
+
+    private static int chunkCount(int n, int parallelism) {
+        return Math.max(1, Math.min(n, 4 * parallelism));
+    }
+
+    private static int chunkStart(int c, int chunks, int n) {
+        return (int) ((long) c * n / chunks);
+    }
+
+    private static int chunkEnd(int c, int chunks, int n) {
+        return (int) ((long) (c + 1) * n / chunks);
+    }
+}
@@ -3,7 +3,7 @@
  *  @version 1.0
  *  Descripción: Clase que implementa un grafo dirigido utilizando una matriz de adyacencia.
  *  Fecha de creación: 20/05/2025
- *  Fecha de última modificación: 22/05/2025
+ *  Fecha de última modificación: 18/10/2026
  *  Fuentes: implementación basada en el libro Java Structures de Duane A. Bailey
  */
 
@@ -16,7 +16,8 @@ public class GraphMatrixDirected<V, E> {
     protected int size;
     protected Object[][] data;
     protected Map<V, Vertex<V>> dict;
-    protected List<Integer> freeList;
+    protected int[] freeSlots;
+    protected int freeCount;
     protected boolean directed;
 
     /**
@@ -29,10 +30,10 @@ public class GraphMatrixDirected<V, E> {
         this.directed = true;
         this.data = new Object[size][size];
         this.dict = new HashMap<>();
-        this.freeList = new LinkedList<>();
+        this.freeSlots = new int[size];
         
         for (int i = size-1; i >= 0; i--) {
-            freeList.add(i);
+            freeSlots[freeCount++] = i;
         }
     }
 
@@ -106,12 +107,14 @@ public class GraphMatrixDirected<V, E> {
 
     /**
      * Método que añade un vértice al grafo.
+     * Si no quedan índices libres, la capacidad de la matriz se duplica.
      * @param label Etiqueta del vértice.
      */
     public void addVertex(V label) {
-        if (dict.containsKey(label) || freeList.isEmpty()) return;
+        if (dict.containsKey(label)) return;
+        if (freeCount == 0) grow();
         
-        int index = freeList.remove(0);
+        int index = freeSlots[--freeCount];
         Vertex<V> vertex = new Vertex<>(label, index);
         dict.put(label, vertex);
     }
@@ -130,10 +133,77 @@ public class GraphMatrixDirected<V, E> {
             data[index][i] = null;
         }
         
-        freeList.add(index);
+        freeSlots[freeCount++] = index;
         return vertex.label();
     }
 
+    /**
+     * Método que duplica la capacidad de la matriz de adyacencia.
+     * Los nuevos índices se apilan de forma que se asignen en orden creciente.
+     */
+    protected void grow() {
+        int newSize = Math.max(1, size * 2);
+        Object[][] newData = new Object[newSize][newSize];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(data[i], 0, newData[i], 0, size);
+        }
+
+        int[] newFree = Arrays.copyOf(freeSlots, newSize);
+        for (int i = newSize - 1; i >= size; i--) {
+            newFree[freeCount++] = i;
+        }
+
+        data = newData;
+        freeSlots = newFree;
+        size = newSize;
+    }
+
+    /**
+     * Método que renumera los vértices para que ocupen los índices [0, n) sin huecos,
+     * conservando su orden relativo, y reduce la capacidad a n.
+     * Así una matriz derivada del grafo queda exactamente de n x n.
+     */
+    public void compact() {
+        int n = dict.size();
+        int[] newIndex = new int[size];
+        Arrays.fill(newIndex, -1);
+        for (Vertex<V> vertex : dict.values()) {
+            newIndex[vertex.index()] = 0;
+        }
+
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (newIndex[i] == 0) newIndex[i] = next++;
+        }
+
+        Object[][] newData = new Object[n][n];
+        for (int i = 0; i < size; i++) {
+            if (newIndex[i] < 0) continue;
+            for (int j = 0; j < size; j++) {
+                if (newIndex[j] >= 0) {
+                    newData[newIndex[i]][newIndex[j]] = data[i][j];
+                }
+            }
+        }
+
+        for (Map.Entry<V, Vertex<V>> entry : dict.entrySet()) {
+            entry.setValue(new Vertex<>(entry.getKey(), newIndex[entry.getValue().index()]));
+        }
+
+        data = newData;
+        size = n;
+        freeSlots = new int[n];
+        freeCount = 0;
+    }
+
+    /**
+     * Método que devuelve la capacidad actual (número de filas de la matriz).
+     * @return Capacidad del grafo.
+     */
+    public int capacity() {
+        return size;
+    }
+
     /**
      * Método que añade una arista al grafo.
      * @param from Vértice de origen.
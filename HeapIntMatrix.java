@@ -0,0 +1,95 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Matriz de enteros almacenada en un único arreglo int[] dentro del heap.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+/**
+ * Implementación de IntMatrix sobre un arreglo plano int[] de tamaño size * size.
+ */
+public class HeapIntMatrix implements IntMatrix {
+    private final int size;
+    private final int[] data;
+
+    /**
+     * Constructor que crea una matriz vacía.
+     * @param size Tamaño de la matriz.
+     */
+    public HeapIntMatrix(int size) {
+        this(size, new int[checkedLength(size)]);
+    }
+
+    /**
+     * Constructor que envuelve un arreglo existente sin copiarlo.
+     * La matriz toma posesión del arreglo: cualquier cambio se refleja en ambos.
+     * @param size Tamaño de la matriz.
+     * @param data Arreglo en orden row-major de longitud size * size.
+     */
+    public HeapIntMatrix(int size, int[] data) {
+        if (data.length != checkedLength(size)) {
+            throw new IllegalArgumentException("El arreglo no tiene " + size + "x" + size + " elementos");
+        }
+        this.size = size;
+        this.data = data;
+    }
+
+    /**
+     * Método que crea una matriz copiando un arreglo bidimensional.
+     * @param matrix Matriz cuadrada a copiar.
+     * @return Nueva matriz con los mismos valores.
+     */
+    public static HeapIntMatrix copyOf(int[][] matrix) {
+        int n = matrix.length;
+        HeapIntMatrix result = new HeapIntMatrix(n);
+        for (int i = 0; i < n; i++) {
+            if (matrix[i].length != n) {
+                throw new IllegalArgumentException("La matriz no es cuadrada");
+            }
+            System.arraycopy(matrix[i], 0, result.data, i * n, n);
+        }
+        return result;
+    }
+
+    /**
+     * Método que calcula la longitud del arreglo plano y verifica que quepa en un int[].
+     * @param size Tamaño de la matriz.
+     * @return size * size.
+     */
+    static int checkedLength(int size) {
+        long length = (long) size * size;
+        if (size < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Tamaño de matriz no soportado en heap: " + size);
+        }
+        return (int) length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int i, int j) {
+        return data[i * size + j];
+    }
+
+    @Override
+    public void set(int i, int j, int value) {
+        data[i * size + j] = value;
+    }
+
+    @Override
+    public IntMatrix allocate(int size) {
+        return new HeapIntMatrix(size);
+    }
+
+    /**
+     * Método que devuelve el arreglo subyacente (sin copia).
+     * @return Arreglo row-major de la matriz.
+     */
+    int[] array() {
+        return data;
+    }
+}
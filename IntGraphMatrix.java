@@ -0,0 +1,271 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Grafo dirigido con pesos enteros almacenados en una matriz de adyacencia plana.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: misma interfaz que GraphMatrixDirected, especializada para pesos int
+ */
+
+import java.util.*;
+
+/**
+ * Variante de GraphMatrixDirected para pesos int: las aristas no son objetos sino celdas de un
+ * int[] de tamaño size * size, con NO_EDGE (Integer.MAX_VALUE) como marca de "sin arista".
+ * Como NO_EDGE coincide con el infinito de Floyd, floydWeights() prepara la entrada de Floyd con una
+ * sola copia del arreglo, sin crear objetos por celda.
+ */
+public class IntGraphMatrix<V> {
+    /** Peso que indica que no hay arista. */
+    public static final int NO_EDGE = Integer.MAX_VALUE;
+
+    protected int size;
+    protected int[] weights;
+    protected Object[] labels;
+    protected LabelIndex<V> dict;
+    protected int[] freeSlots;
+    protected int freeCount;
+
+    /**
+     * Constructor que inicializa el grafo con un tamaño específico.
+     * @param size Tamaño del grafo.
+     */
+    public IntGraphMatrix(int size) {
+        this.size = size;
+        this.weights = new int[HeapIntMatrix.checkedLength(size)];
+        this.labels = new Object[size];
+        this.dict = new LabelIndex<>(size);
+        this.freeSlots = new int[size];
+        Arrays.fill(weights, NO_EDGE);
+
+        for (int i = size - 1; i >= 0; i--) {
+            freeSlots[freeCount++] = i;
+        }
+    }
+
+    /**
+     * Método que añade un vértice al grafo.
+     * Si no quedan índices libres, la capacidad de la matriz se duplica.
+     * @param label Etiqueta del vértice (no nula).
+     */
+    public void addVertex(V label) {
+        if (label == null) {
+            throw new IllegalArgumentException("La etiqueta no puede ser nula");
+        }
+        if (dict.get(label) != LabelIndex.ABSENT) return;
+        if (freeCount == 0) grow();
+
+        int index = freeSlots[--freeCount];
+        labels[index] = label;
+        dict.put(label, index);
+    }
+
+    /**
+     * Método que elimina un vértice del grafo.
+     * @param label Etiqueta del vértice a eliminar.
+     * @return Etiqueta eliminada, o null si no existía.
+     */
+    public V removeVertex(V label) {
+        int index = dict.remove(label);
+        if (index == LabelIndex.ABSENT) return null;
+
+        Arrays.fill(weights, index * size, (index + 1) * size, NO_EDGE);
+        for (int i = 0; i < size; i++) {
+            weights[i * size + index] = NO_EDGE;
+        }
+
+        @SuppressWarnings("unchecked")
+        V removed = (V) labels[index];
+        labels[index] = null;
+        freeSlots[freeCount++] = index;
+        return removed;
+    }
+
+    /**
+     * Método que duplica la capacidad de la matriz de pesos.
+     */
+    protected void grow() {
+        int newSize = Math.max(1, size * 2);
+        int[] newWeights = new int[HeapIntMatrix.checkedLength(newSize)];
+        Arrays.fill(newWeights, NO_EDGE);
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(weights, i * size, newWeights, i * newSize, size);
+        }
+
+        int[] newFree = Arrays.copyOf(freeSlots, newSize);
+        for (int i = newSize - 1; i >= size; i--) {
+            newFree[freeCount++] = i;
+        }
+
+        weights = newWeights;
+        labels = Arrays.copyOf(labels, newSize);
+        freeSlots = newFree;
+        size = newSize;
+    }
+
+    /**
+     * Método que renumera los vértices para que ocupen los índices [0, n) sin huecos,
+     * conservando su orden relativo, y reduce la capacidad a n.
+     */
+    public void compact() {
+        int n = dict.size();
+        int[] newIndex = new int[size];
+        Object[] newLabels = new Object[n];
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (labels[i] == null) {
+                newIndex[i] = -1;
+            } else {
+                newIndex[i] = next;
+                newLabels[next++] = labels[i];
+            }
+        }
+
+        int[] newWeights = new int[HeapIntMatrix.checkedLength(n)];
+        for (int i = 0; i < size; i++) {
+            if (newIndex[i] < 0) continue;
+            int row = newIndex[i] * n;
+            for (int j = 0; j < size; j++) {
+                if (newIndex[j] >= 0) {
+                    newWeights[row + newIndex[j]] = weights[i * size + j];
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            V label = (V) newLabels[i];
+            dict.put(label, i);
+        }
+
+        weights = newWeights;
+        labels = newLabels;
+        size = n;
+        freeSlots = new int[n];
+        freeCount = 0;
+    }
+
+    /**
+     * Método que añade una arista al grafo (o reemplaza su peso).
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @param weight Peso de la arista.
+     */
+    public void addEdge(V from, V to, int weight) {
+        int i = dict.get(from);
+        int j = dict.get(to);
+        if (i == LabelIndex.ABSENT || j == LabelIndex.ABSENT) return;
+
+        weights[i * size + j] = weight;
+    }
+
+    /**
+     * Método que elimina una arista del grafo.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return Peso que tenía la arista, o NO_EDGE si no existía.
+     */
+    public int removeEdge(V from, V to) {
+        int i = dict.get(from);
+        int j = dict.get(to);
+        if (i == LabelIndex.ABSENT || j == LabelIndex.ABSENT) return NO_EDGE;
+
+        int weight = weights[i * size + j];
+        weights[i * size + j] = NO_EDGE;
+        return weight;
+    }
+
+    /**
+     * Método que verifica si el grafo contiene un vértice.
+     * @param label Etiqueta del vértice.
+     * @return true si el vértice existe, false en caso contrario.
+     */
+    public boolean contains(V label) {
+        return dict.get(label) != LabelIndex.ABSENT;
+    }
+
+    /**
+     * Método que verifica si el grafo contiene una arista.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return true si la arista existe, false en caso contrario.
+     */
+    public boolean containsEdge(V from, V to) {
+        return getEdge(from, to) != NO_EDGE;
+    }
+
+    /**
+     * Método que obtiene el peso de una arista.
+     * @param from Vértice de origen.
+     * @param to Vértice de destino.
+     * @return Peso de la arista, o NO_EDGE si no existe.
+     */
+    public int getEdge(V from, V to) {
+        int i = dict.get(from);
+        int j = dict.get(to);
+        if (i == LabelIndex.ABSENT || j == LabelIndex.ABSENT) return NO_EDGE;
+
+        return weights[i * size + j];
+    }
+
+    /**
+     * Método que obtiene el índice de un vértice.
+     * @param label Etiqueta del vértice.
+     * @return Índice del vértice, o -1 si no existe.
+     */
+    public int getIndex(V label) {
+        return dict.get(label);
+    }
+
+    /**
+     * Método que obtiene la etiqueta de un índice.
+     * @param index Índice del vértice.
+     * @return Etiqueta, o null si el índice está libre.
+     */
+    @SuppressWarnings("unchecked")
+    public V label(int index) {
+        return (V) labels[index];
+    }
+
+    /**
+     * Método que devuelve la capacidad actual (número de filas de la matriz).
+     * @return Capacidad del grafo.
+     */
+    public int capacity() {
+        return size;
+    }
+
+    /**
+     * Método que devuelve las etiquetas de los vértices.
+     * @return Conjunto de etiquetas.
+     */
+    public Set<V> vertices() {
+        Set<V> result = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (labels[i] != null) result.add(label(i));
+        }
+        return result;
+    }
+
+    /**
+     * Método que prepara la entrada de Floyd, indexada por getIndex(): copia la matriz de pesos
+     * (un solo arraycopy) y pone 0 en la diagonal de los índices ocupados. Floyd puede sobrescribir
+     * la copia sin que el grafo cambie. Los índices libres quedan como filas y columnas sin aristas.
+     * @return Matriz de pesos de capacity() x capacity().
+     */
+    public HeapIntMatrix floydWeights() {
+        int[] copy = weights.clone();
+        for (int i = 0; i < size; i++) {
+            if (labels[i] != null) copy[i * size + i] = 0;
+        }
+        return new HeapIntMatrix(size, copy);
+    }
+
+    /**
+     * Método que devuelve una copia de la matriz de pesos, indexada por getIndex().
+     * @return Nueva matriz de pesos.
+     */
+    public HeapIntMatrix weightCopy() {
+        return new HeapIntMatrix(size, weights.clone());
+    }
+}
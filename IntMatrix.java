@@ -0,0 +1,43 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Interfaz para el almacenamiento de matrices cuadradas de enteros usadas por Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+/**
+ * Matriz cuadrada de enteros almacenada en un único buffer contiguo por filas (row-major).
+ * Permite cambiar el almacenamiento de Floyd (en heap o fuera del heap) sin tocar el algoritmo.
+ */
+public interface IntMatrix {
+
+    /**
+     * Método que devuelve el número de filas (y columnas) de la matriz.
+     * @return Tamaño de la matriz.
+     */
+    int size();
+
+    /**
+     * Método que obtiene el valor de una celda.
+     * @param i Fila.
+     * @param j Columna.
+     * @return Valor almacenado en (i, j).
+     */
+    int get(int i, int j);
+
+    /**
+     * Método que modifica el valor de una celda.
+     * @param i Fila.
+     * @param j Columna.
+     * @param value Nuevo valor.
+     */
+    void set(int i, int j, int value);
+
+    /**
+     * Método que crea una matriz vacía del mismo tipo de almacenamiento.
+     * @param size Tamaño de la nueva matriz.
+     * @return Nueva matriz con todas sus celdas en cero.
+     */
+    IntMatrix allocate(int size);
+}
@@ -0,0 +1,127 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Montículo mínimo indexado de vértices con prioridades primitivas.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.Arrays;
+
+/**
+ * Montículo binario de vértices [0, capacity) con prioridad long, sin objetos por elemento.
+ * Admite disminuir la prioridad de un vértice que ya está en el montículo.
+ */
+public class IntMinHeap {
+    private final int[] heap;
+    private final int[] position;
+    private final long[] keys;
+    private int count;
+
+    /**
+     * Constructor que crea un montículo vacío.
+     * @param capacity Número de vértices posibles.
+     */
+    public IntMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Método que indica si el montículo está vacío.
+     * @return true si no hay elementos.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Método que inserta un vértice o disminuye su prioridad si ya estaba.
+     * Si la nueva prioridad no es menor que la actual, no hace nada.
+     * @param v Vértice.
+     * @param key Prioridad.
+     */
+    public void insertOrDecrease(int v, long key) {
+        int p = position[v];
+        if (p == -1) {
+            p = count++;
+            heap[p] = v;
+            position[v] = p;
+            keys[v] = key;
+        } else if (key < keys[v]) {
+            keys[v] = key;
+        } else {
+            return;
+        }
+        siftUp(p);
+    }
+
+    /**
+     * Método que devuelve la prioridad con la que salió (o está) un vértice.
+     * @param v Vértice.
+     * @return Prioridad del vértice.
+     */
+    public long key(int v) {
+        return keys[v];
+    }
+
+    /**
+     * Método que extrae el vértice de menor prioridad.
+     * @return Vértice extraído.
+     */
+    public int pollMin() {
+        int min = heap[0];
+        position[min] = -1;
+        count--;
+        if (count > 0) {
+            heap[0] = heap[count];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Método que vacía el montículo para reutilizarlo.
+     */
+    public void clear() {
+        for (int p = 0; p < count; p++) {
+            position[heap[p]] = -1;
+        }
+        count = 0;
+    }
+
+    private void siftUp(int p) {
+        int v = heap[p];
+        long key = keys[v];
+        while (p > 0) {
+            int parent = (p - 1) >>> 1;
+            int u = heap[parent];
+            if (keys[u] <= key) break;
+            heap[p] = u;
+            position[u] = p;
+            p = parent;
+        }
+        heap[p] = v;
+        position[v] = p;
+    }
+
+    private void siftDown(int p) {
+        int v = heap[p];
+        long key = keys[v];
+        while (true) {
+            int child = 2 * p + 1;
+            if (child >= count) break;
+            if (child + 1 < count && keys[heap[child + 1]] < keys[heap[child]]) child++;
+            int u = heap[child];
+            if (keys[u] >= key) break;
+            heap[p] = u;
+            position[u] = p;
+            p = child;
+        }
+        heap[p] = v;
+        position[v] = p;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Clase que implementa el algoritmo de Johnson para grafos dispersos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.List;
+
+/**
+ * Caminos más cortos entre todos los pares ejecutando Dijkstra desde cada origen sobre la adyacencia CSR.
+ * Si hay pesos negativos, primero se calculan potenciales con Bellman-Ford (reponderación de Johnson).
+ * El resultado se guarda en las mismas matrices dist/next que usa Floyd, por lo que las consultas
+ * devuelven lo mismo que Floyd.
+ */
+public class Johnson implements ShortestPaths {
+    private final CsrGraph graph;
+    private final int V;
+    private Floyd result;
+
+    /**
+     * Constructor que inicializa el algoritmo de Johnson.
+     * @param graph Grafo en formato CSR.
+     */
+    public Johnson(CsrGraph graph) {
+        this.graph = graph;
+        this.V = graph.size();
+    }
+
+    @Override
+    public void compute() {
+        long[] potential = graph.hasNegativeWeights() ? potentials(graph) : null;
+
+        HeapIntMatrix dist = new HeapIntMatrix(V);
+        HeapIntMatrix next = new HeapIntMatrix(V);
+        long[] reduced = new long[V];
+        int[] parent = new int[V];
+        int[] order = new int[V];
+        int[] firstHop = new int[V];
+        IntMinHeap heap = new IntMinHeap(V);
+
+        for (int s = 0; s < V; s++) {
+            int settled = Dijkstra.run(graph, s, potential, reduced, parent, order, heap);
+
+            for (int t = 0; t < V; t++) {
+                dist.set(s, t, Integer.MAX_VALUE);
+                next.set(s, t, -1);
+            }
+            for (int r = 0; r < settled; r++) {
+                int t = order[r];
+                long d = reduced[t];
+                if (potential != null) {
+                    d += potential[t] - potential[s];
+                }
+                // firstHop se actualiza aunque la distancia no quepa en un int: un descendiente con aristas
+                // negativas puede volver a caber y lo necesita.
+                if (t != s) {
+                    firstHop[t] = (parent[t] == s) ? t : firstHop[parent[t]];
+                }
+                if (d >= Integer.MAX_VALUE) continue;
+                dist.set(s, t, (int) d);
+                if (t != s) {
+                    next.set(s, t, firstHop[t]);
+                }
+            }
+        }
+
+        result = new Floyd(dist, next);
+    }
+
+    /**
+     * Método que calcula los potenciales de Johnson con Bellman-Ford desde un origen virtual
+     * conectado a todos los vértices con peso 0.
+     * @param graph Grafo en formato CSR.
+     * @return Potencial h de cada vértice (h[v] <= 0).
+     */
+    static long[] potentials(CsrGraph graph) {
+        int n = graph.size();
+        long[] h = new long[n];
+
+        for (int round = 0; round < n; round++) {
+            boolean changed = false;
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.firstEdge(u), end = graph.endEdge(u); e < end; e++) {
+                    int v = graph.target(e);
+                    long candidate = h[u] + graph.weight(e);
+                    if (candidate < h[v]) {
+                        h[v] = candidate;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) return h;
+        }
+        throw new IllegalStateException("El grafo contiene un ciclo negativo");
+    }
+
+    @Override
+    public int size() {
+        return V;
+    }
+
+    @Override
+    public int getDistance(int i, int j) {
+        return computed().getDistance(i, j);
+    }
+
+    @Override
+    public List<Integer> getPath(int i, int j) {
+        return computed().getPath(i, j);
+    }
+
+    @Override
+    public String findGraphCenter(String[] vertexNames) {
+        return computed().findGraphCenter(vertexNames);
+    }
+
+    /**
+     * Método que devuelve el resultado calculado en las matrices de Floyd.
+     * @return Resultado de compute().
+     */
+    Floyd computed() {
+        if (result == null) {
+            throw new IllegalStateException("Se debe llamar a compute() antes de consultar");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Mapa de etiquetas a índices enteros con direccionamiento abierto.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.Arrays;
+
+/**
+ * Mapa etiqueta -> índice sin objetos de entrada ni Integer: las claves se guardan en un Object[]
+ * y los índices en un int[] paralelo, con sondeo lineal.
+ */
+public class LabelIndex<V> {
+    /** Valor devuelto cuando la etiqueta no está en el mapa. */
+    public static final int ABSENT = -1;
+
+    private Object[] keys;
+    private int[] values;
+    private int count;
+
+    /**
+     * Constructor que crea un mapa vacío.
+     * @param expected Número de etiquetas esperado.
+     */
+    public LabelIndex(int expected) {
+        int capacity = 16;
+        while (capacity < 2L * Math.max(expected, 1)) {
+            capacity <<= 1;
+        }
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+    }
+
+    /**
+     * Método que devuelve el número de etiquetas.
+     * @return Número de etiquetas.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Método que obtiene el índice de una etiqueta.
+     * @param label Etiqueta.
+     * @return Índice, o ABSENT si no existe.
+     */
+    public int get(Object label) {
+        if (label == null) return ABSENT;
+        int mask = keys.length - 1;
+        for (int slot = hash(label) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot].equals(label)) return values[slot];
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Método que asocia una etiqueta a un índice, reemplazando el anterior si existía.
+     * @param label Etiqueta (no nula).
+     * @param index Índice (no negativo).
+     */
+    public void put(V label, int index) {
+        if (label == null) {
+            throw new IllegalArgumentException("La etiqueta no puede ser nula");
+        }
+        if (2 * (count + 1) > keys.length) {
+            resize(keys.length << 1);
+        }
+
+        int mask = keys.length - 1;
+        int slot = hash(label) & mask;
+        while (keys[slot] != null) {
+            if (keys[slot].equals(label)) {
+                values[slot] = index;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = label;
+        values[slot] = index;
+        count++;
+    }
+
+    /**
+     * Método que elimina una etiqueta.
+     * @param label Etiqueta.
+     * @return Índice que tenía, o ABSENT si no existía.
+     */
+    public int remove(Object label) {
+        if (label == null) return ABSENT;
+        int mask = keys.length - 1;
+        int slot = hash(label) & mask;
+        while (keys[slot] != null && !keys[slot].equals(label)) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == null) return ABSENT;
+
+        int removed = values[slot];
+        count--;
+
+        // Borrado por desplazamiento hacia atrás para no dejar huecos en las cadenas de sondeo.
+        int gap = slot;
+        for (int next = (gap + 1) & mask; keys[next] != null; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        keys[gap] = null;
+        return removed;
+    }
+
+    /**
+     * Método que vacía el mapa.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        count = 0;
+    }
+
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new Object[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int s = 0; s < oldKeys.length; s++) {
+            if (oldKeys[s] == null) continue;
+            int slot = hash(oldKeys[s]) & mask;
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[s];
+            values[slot] = oldValues[s];
+        }
+    }
+
+    private static int hash(Object label) {
+        int h = label.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,383 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Oráculo de distancias aproximadas con landmarks (ALT) para grafos grandes.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: Goldberg y Harrelson, "Computing the Shortest Path: A* Search Meets Graph Theory" (2005)
+ */
+
+import java.util.*;
+
+/**
+ * Alternativa a Floyd cuando las matrices V x V no caben en memoria. Se eligen k vértices de referencia
+ * (landmarks) y se guardan las distancias desde y hacia cada uno: 2 * k * V enteros en total.
+ * Por la desigualdad triangular, para cualquier par (u, v) y landmark L:
+ * <ul>
+ *   <li>cota inferior: max(d(L, v) - d(L, u), d(u, L) - d(v, L))</li>
+ *   <li>cota superior: d(u, L) + d(L, v)</li>
+ * </ul>
+ * estimate() devuelve ambas cotas en O(k) y marca como exacta la respuesta solo si coinciden.
+ * La distancia exacta y el camino se obtienen bajo demanda con A*, usando la cota inferior como heurística.
+ * Requiere pesos no negativos. No es seguro para uso concurrente (A* reutiliza sus arreglos de trabajo).
+ */
+public class LandmarkOracle {
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final CsrGraph graph;
+    private final int V;
+    private final int k;
+    private final int[] landmarks;
+    private final int[] fromLandmark;
+    private final int[] toLandmark;
+
+    private final long[] g;
+    private final long[] h;
+    private final int[] parent;
+    private final int[] stamp;
+    private final boolean[] settled;
+    private final IntMinHeap heap;
+    private int query;
+    private int lastSearchSize;
+
+    /**
+     * Resultado de una consulta de distancia: cotas inferior y superior, y si la respuesta es exacta.
+     */
+    public static final class Estimate {
+        private final long lower;
+        private final long upper;
+
+        private Estimate(long lower, long upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        /**
+         * Método que devuelve la cota inferior de la distancia.
+         * @return Cota inferior, o Dijkstra.UNREACHABLE si se sabe que no hay camino.
+         */
+        public long getLower() {
+            return lower;
+        }
+
+        /**
+         * Método que devuelve la cota superior de la distancia.
+         * @return Cota superior, o Dijkstra.UNREACHABLE si ningún landmark da un camino.
+         */
+        public long getUpper() {
+            return upper;
+        }
+
+        /**
+         * Método que indica si la distancia es exacta (las dos cotas coinciden).
+         * @return true si getUpper() es la distancia real.
+         */
+        public boolean isExact() {
+            return lower == upper;
+        }
+
+        /**
+         * Método que indica si el destino es alcanzable. Solo es definitivo si isExact().
+         * @return false si se sabe que no hay camino o si ningún landmark conecta los vértices.
+         */
+        public boolean isReachable() {
+            return upper != Dijkstra.UNREACHABLE;
+        }
+
+        /**
+         * Método que devuelve el factor de aproximación garantizado: la distancia real está entre
+         * getUpper() / stretch y getUpper().
+         * @return upper / lower (1 si es exacta, infinito si la cota inferior es 0 o no hay cota superior).
+         */
+        public double getStretch() {
+            if (isExact()) return 1.0;
+            if (lower == 0 || upper == Dijkstra.UNREACHABLE) return Double.POSITIVE_INFINITY;
+            return (double) upper / lower;
+        }
+
+        @Override
+        public String toString() {
+            if (isExact()) {
+                return upper == Dijkstra.UNREACHABLE ? "sin camino" : Long.toString(upper) + " (exacta)";
+            }
+            return "[" + lower + ", " + (upper == Dijkstra.UNREACHABLE ? "∞" : Long.toString(upper)) + "] (aproximada)";
+        }
+    }
+
+    /**
+     * Constructor que elige los landmarks y calcula sus distancias (2k ejecuciones de Dijkstra).
+     * @param graph Grafo en formato CSR con pesos no negativos.
+     * @param landmarkCount Número de landmarks (se limita al número de vértices).
+     */
+    public LandmarkOracle(CsrGraph graph, int landmarkCount) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("El número de landmarks debe ser mayor que cero");
+        }
+        if (graph.hasNegativeWeights()) {
+            throw new IllegalArgumentException("El oráculo de landmarks requiere pesos no negativos");
+        }
+
+        this.graph = graph;
+        this.V = graph.size();
+        this.k = Math.min(landmarkCount, Math.max(V, 1));
+        this.landmarks = new int[k];
+        this.fromLandmark = new int[Math.multiplyExact(k, V)];
+        this.toLandmark = new int[Math.multiplyExact(k, V)];
+
+        this.g = new long[V];
+        this.h = new long[V];
+        this.parent = new int[V];
+        this.stamp = new int[V];
+        this.settled = new boolean[V];
+        this.heap = new IntMinHeap(V);
+
+        if (V > 0) {
+            selectLandmarks(graph.transpose());
+        }
+    }
+
+    /**
+     * Método que crea un oráculo con tantos landmarks como quepan en un presupuesto de memoria.
+     * @param graph Grafo en formato CSR con pesos no negativos.
+     * @param memoryBudgetBytes Memoria para las tablas de distancias (se usa al menos un landmark).
+     * @return Oráculo construido.
+     */
+    public static LandmarkOracle withBudget(CsrGraph graph, long memoryBudgetBytes) {
+        long perLandmark = Math.max(1, bytesPerLandmark(graph.size()));
+        int count = (int) Math.max(1, Math.min(Integer.MAX_VALUE, memoryBudgetBytes / perLandmark));
+        return new LandmarkOracle(graph, count);
+    }
+
+    /**
+     * Método que devuelve la memoria que ocupa cada landmark (distancias desde y hacia él).
+     * @param vertices Número de vértices.
+     * @return Bytes por landmark.
+     */
+    public static long bytesPerLandmark(int vertices) {
+        return 2L * Integer.BYTES * vertices;
+    }
+
+    /**
+     * Método que elige los landmarks por el vértice más lejano: cada nuevo landmark es el vértice
+     * cuya distancia al landmark más cercano ya elegido es máxima (los no alcanzados primero).
+     */
+    private void selectLandmarks(CsrGraph reverse) {
+        long[] dist = new long[V];
+        long[] nearest = new long[V];
+        int[] scratchParent = new int[V];
+
+        // El primer landmark es el vértice más lejano a un vértice arbitrario.
+        Dijkstra.run(graph, 0, null, dist, scratchParent, null, heap);
+        int candidate = farthest(dist);
+        Arrays.fill(nearest, Dijkstra.UNREACHABLE);
+
+        for (int l = 0; l < k; l++) {
+            landmarks[l] = candidate;
+
+            Dijkstra.run(graph, candidate, null, dist, scratchParent, null, heap);
+            for (int v = 0; v < V; v++) {
+                fromLandmark[v * k + l] = clamp(dist[v]);
+                nearest[v] = Math.min(nearest[v], dist[v]);
+            }
+            Dijkstra.run(reverse, candidate, null, dist, scratchParent, null, heap);
+            for (int v = 0; v < V; v++) {
+                toLandmark[v * k + l] = clamp(dist[v]);
+            }
+
+            nearest[candidate] = -1;
+            candidate = farthest(nearest);
+        }
+    }
+
+    private static int farthest(long[] dist) {
+        int best = 0;
+        for (int v = 1; v < dist.length; v++) {
+            if (dist[v] > dist[best]) best = v;
+        }
+        return best;
+    }
+
+    private static int clamp(long d) {
+        return d >= INF ? INF : (int) d;
+    }
+
+    /**
+     * Método que estima la distancia entre dos vértices en O(k) a partir de las tablas de landmarks.
+     * @param u Vértice de origen.
+     * @param v Vértice de destino.
+     * @return Cotas de la distancia.
+     */
+    public Estimate estimate(int u, int v) {
+        if (u == v) return new Estimate(0, 0);
+
+        long lower = lowerBound(u, v);
+        if (lower == Dijkstra.UNREACHABLE) {
+            return new Estimate(Dijkstra.UNREACHABLE, Dijkstra.UNREACHABLE);
+        }
+
+        long upper = Dijkstra.UNREACHABLE;
+        int ui = u * k;
+        int vi = v * k;
+        for (int l = 0; l < k; l++) {
+            int toL = toLandmark[ui + l];
+            int fromL = fromLandmark[vi + l];
+            if (toL != INF && fromL != INF) {
+                upper = Math.min(upper, (long) toL + fromL);
+            }
+        }
+        return new Estimate(lower, upper);
+    }
+
+    /**
+     * Método que obtiene la distancia con un factor de aproximación acotado: si las cotas de los landmarks
+     * no garantizan maxStretch, la distancia se calcula de forma exacta con A*.
+     * @param u Vértice de origen.
+     * @param v Vértice de destino.
+     * @param maxStretch Factor máximo aceptado entre la respuesta y la distancia real (al menos 1).
+     * @return Estimación cuyo getUpper() está a lo sumo a maxStretch veces la distancia real.
+     */
+    public Estimate getDistance(int u, int v, double maxStretch) {
+        if (maxStretch < 1.0) {
+            throw new IllegalArgumentException("El factor de aproximación debe ser al menos 1");
+        }
+        Estimate estimate = estimate(u, v);
+        if (estimate.getStretch() <= maxStretch) return estimate;
+
+        long exact = search(u, v);
+        return new Estimate(exact, exact);
+    }
+
+    /**
+     * Método que calcula la distancia exacta con A*.
+     * @param u Vértice de origen.
+     * @param v Vértice de destino.
+     * @return Distancia exacta, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int exactDistance(int u, int v) {
+        return clamp(search(u, v));
+    }
+
+    /**
+     * Método que calcula el camino más corto exacto con A*.
+     * @param u Vértice de origen.
+     * @param v Vértice de destino.
+     * @return Lista de índices del camino, o null si no hay camino.
+     */
+    public List<Integer> getPath(int u, int v) {
+        if (search(u, v) == Dijkstra.UNREACHABLE) return null;
+
+        List<Integer> path = new ArrayList<>();
+        for (int x = v; x != -1; x = parent[x]) {
+            path.add(x);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Método que devuelve cuántos vértices fijó la última búsqueda A*.
+     * @return Número de vértices fijados.
+     */
+    public int getLastSearchSize() {
+        return lastSearchSize;
+    }
+
+    /**
+     * Método que devuelve los landmarks elegidos.
+     * @return Índices de los landmarks.
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Método que devuelve la memoria que ocupan las tablas de distancias.
+     * @return Bytes usados por las tablas.
+     */
+    public long getTableBytes() {
+        return k * bytesPerLandmark(V);
+    }
+
+    /**
+     * Método que calcula la cota inferior de d(x, t) con todos los landmarks.
+     * Si algún landmark demuestra que t no es alcanzable desde x, devuelve Dijkstra.UNREACHABLE.
+     */
+    private long lowerBound(int x, int t) {
+        long lower = 0;
+        int xi = x * k;
+        int ti = t * k;
+        for (int l = 0; l < k; l++) {
+            int fromX = fromLandmark[xi + l];
+            int fromT = fromLandmark[ti + l];
+            if (fromX != INF) {
+                // L alcanza a x; si no alcanza a t, x tampoco.
+                if (fromT == INF) return Dijkstra.UNREACHABLE;
+                lower = Math.max(lower, (long) fromT - fromX);
+            }
+
+            int toX = toLandmark[xi + l];
+            int toT = toLandmark[ti + l];
+            if (toT != INF) {
+                // t alcanza a L; si x no alcanza a L, tampoco alcanza a t.
+                if (toX == INF) return Dijkstra.UNREACHABLE;
+                lower = Math.max(lower, (long) toX - toT);
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Método que ejecuta A* de s a t. Los arreglos de trabajo se marcan con el número de consulta
+     * para no tener que limpiarlos enteros, así el coste solo depende de la zona explorada.
+     * @return Distancia exacta, o Dijkstra.UNREACHABLE; parent queda con el árbol de la búsqueda.
+     */
+    private long search(int s, int t) {
+        query++;
+        if (query == 0) {
+            Arrays.fill(stamp, 0);
+            query = 1;
+        }
+        heap.clear();
+        lastSearchSize = 0;
+
+        visit(s, t);
+        if (h[s] == Dijkstra.UNREACHABLE) return Dijkstra.UNREACHABLE;
+        g[s] = 0;
+        parent[s] = -1;
+        heap.insertOrDecrease(s, h[s]);
+
+        while (!heap.isEmpty()) {
+            int x = heap.pollMin();
+            settled[x] = true;
+            lastSearchSize++;
+            if (x == t) return g[t];
+
+            long gx = g[x];
+            for (int e = graph.firstEdge(x), end = graph.endEdge(x); e < end; e++) {
+                int y = graph.target(e);
+                long candidate = gx + graph.weight(e);
+                if (stamp[y] != query) {
+                    visit(y, t);
+                } else if (settled[y] || candidate >= g[y]) {
+                    continue;
+                }
+                if (h[y] == Dijkstra.UNREACHABLE) continue;
+
+                g[y] = candidate;
+                parent[y] = x;
+                heap.insertOrDecrease(y, candidate + h[y]);
+            }
+        }
+        return Dijkstra.UNREACHABLE;
+    }
+
+    /**
+     * Método que marca un vértice como visto en la consulta actual y calcula su heurística una sola vez.
+     */
+    private void visit(int x, int t) {
+        stamp[x] = query;
+        settled[x] = false;
+        g[x] = Dijkstra.UNREACHABLE;
+        h[x] = lowerBound(x, t);
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Histograma concurrente de cubetas logarítmicas para latencias y tamaños.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: misma idea de cubetas que HdrHistogram (potencias de dos divididas en subcubetas lineales)
+ */
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores no negativos con error relativo acotado: cada potencia de dos se divide en
+ * 32 subcubetas iguales, así que el valor que se informa está a menos de un 3.2% del real.
+ * Ocupa unas 1900 cubetas fijas (15 KB) sea cual sea el rango, y record() no reserva memoria.
+ * Se puede registrar desde varios hilos a la vez.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Método que registra un valor (los negativos se cuentan como 0).
+     * @param value Valor a registrar.
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Método que devuelve el número de valores registrados.
+     * @return Número de valores.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Método que devuelve el valor máximo registrado.
+     * @return Máximo exacto, o 0 si no hay valores.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Método que devuelve la media de los valores registrados.
+     * @return Media exacta, o 0 si no hay valores.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Método que devuelve el valor por debajo del cual está el porcentaje indicado de los registros.
+     * @param percentile Percentil entre 0 y 100.
+     * @return Límite superior de la cubeta del percentil (nunca mayor que el máximo), o 0 si no hay valores.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 100");
+        }
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            total += counts.get(b);
+        }
+        if (total == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts.get(b);
+            if (seen >= target) {
+                return Math.min(upperBound(b), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Método que borra todos los registros.
+     */
+    public void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            counts.set(b, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long next = (long) (SUB_BUCKETS + sub + 1) << shift;
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Consultas de caminos más cortos bajo demanda con caché LRU de árboles por origen.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.*;
+
+/**
+ * Responde consultas origen-destino sin calcular la matriz completa de todos los pares.
+ * La primera consulta desde un origen ejecuta Dijkstra (O(E log V)) y guarda el árbol de caminos de ese origen;
+ * las siguientes consultas desde el mismo origen se responden desde la caché en O(1) (distancia) o
+ * O(longitud del camino). Los árboles menos usados se descartan cuando se supera el presupuesto de memoria.
+ * No es seguro para uso concurrente.
+ */
+public class LazyShortestPaths {
+    private static final long BYTES_PER_TREE_OVERHEAD = 64;
+
+    private final CsrGraph graph;
+    private final long[] potential;
+    private final int maxTrees;
+    private final LinkedHashMap<Integer, Tree> cache;
+
+    private final long[] scratchDist;
+    private final int[] scratchParent;
+    private final int[] scratchOrder;
+    private final IntMinHeap heap;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Árbol de caminos más cortos desde un origen.
+     */
+    private static class Tree {
+        private final int[] dist;
+        private final int[] parent;
+
+        private Tree(int[] dist, int[] parent) {
+            this.dist = dist;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Constructor que prepara el motor de consultas bajo demanda.
+     * @param graph Grafo en formato CSR.
+     * @param memoryBudgetBytes Memoria máxima aproximada para los árboles guardados (al menos se guarda uno).
+     */
+    public LazyShortestPaths(CsrGraph graph, long memoryBudgetBytes) {
+        int n = graph.size();
+        this.graph = graph;
+        this.potential = graph.hasNegativeWeights() ? Johnson.potentials(graph) : null;
+
+        long bytesPerTree = 2L * Integer.BYTES * n + BYTES_PER_TREE_OVERHEAD;
+        this.maxTrees = (int) Math.max(1, Math.min(n, memoryBudgetBytes / bytesPerTree));
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Tree> eldest) {
+                return size() > maxTrees;
+            }
+        };
+
+        this.scratchDist = new long[n];
+        this.scratchParent = new int[n];
+        this.scratchOrder = new int[n];
+        this.heap = new IntMinHeap(n);
+    }
+
+    /**
+     * Método que obtiene la distancia más corta entre dos vértices.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Distancia más corta, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int getDistance(int i, int j) {
+        return tree(i).dist[j];
+    }
+
+    /**
+     * Método que obtiene el camino más corto entre dos vértices.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Lista de índices del camino, o null si no hay camino.
+     */
+    public List<Integer> getPath(int i, int j) {
+        Tree tree = tree(i);
+        if (tree.dist[j] == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        List<Integer> path = new ArrayList<>();
+        for (int x = j; x != -1; x = tree.parent[x]) {
+            path.add(x);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Método que devuelve cuántas consultas se respondieron desde la caché.
+     * @return Número de aciertos.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Método que devuelve cuántas consultas necesitaron ejecutar Dijkstra.
+     * @return Número de fallos.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Método que devuelve el número máximo de árboles que caben en el presupuesto de memoria.
+     * @return Capacidad de la caché.
+     */
+    public int getCapacity() {
+        return maxTrees;
+    }
+
+    /**
+     * Método que obtiene el árbol de un origen, calculándolo si no está en la caché.
+     */
+    private Tree tree(int source) {
+        Tree tree = cache.get(source);
+        if (tree != null) {
+            hits++;
+            return tree;
+        }
+        misses++;
+
+        int n = graph.size();
+        int settled = Dijkstra.run(graph, source, potential, scratchDist, scratchParent, scratchOrder, heap);
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        for (int r = 0; r < settled; r++) {
+            int t = scratchOrder[r];
+            long d = scratchDist[t];
+            if (potential != null) {
+                d += potential[t] - potential[source];
+            }
+            // El padre se guarda aunque la distancia no quepa en un int, para que los caminos de sus
+            // descendientes (que pueden volver a caber con aristas negativas) lleguen hasta el origen.
+            parent[t] = scratchParent[t];
+            if (d >= Integer.MAX_VALUE) continue;
+            dist[t] = (int) d;
+        }
+
+        tree = new Tree(dist, parent);
+        cache.put(source, tree);
+        return tree;
+    }
+}
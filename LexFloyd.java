@@ -0,0 +1,242 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Algoritmo de Floyd con dos métricas por arista (tiempo y costo) comparadas en orden lexicográfico.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.*;
+
+/**
+ * Variante de Floyd en la que cada celda guarda dos enteros no negativos empaquetados en un long:
+ * el tiempo en los 32 bits altos y el costo en los 32 bits bajos. Como los dos son no negativos,
+ * comparar los long empaquetados equivale a comparar primero por tiempo y, a igual tiempo, por costo;
+ * así el relajamiento sigue siendo una sola comparación por celda.
+ * La suma se hace por componentes y satura a INF si alguna supera Integer.MAX_VALUE - 1.
+ * Es una clase aparte y no un modo de Floyd porque las distancias son long y Floyd trabaja sobre
+ * IntMatrix; la matriz de siguientes sí es la misma, así que getPath() usa Floyd.followNext().
+ */
+public class LexFloyd {
+    /** Valor de las celdas sin camino. */
+    public static final long INF = Long.MAX_VALUE;
+
+    private final long[] dist;
+    private final IntMatrix next;
+    private final int V;
+
+    /**
+     * Función que obtiene el peso empaquetado de la etiqueta de una arista.
+     */
+    @FunctionalInterface
+    public interface Weight<E> {
+        /**
+         * @param label Etiqueta de la arista.
+         * @return Peso empaquetado con pack(), o INF si la arista no se debe usar.
+         */
+        long weight(E label);
+    }
+
+    /**
+     * Constructor que toma posesión de una matriz de pesos empaquetados.
+     * @param size Número de vértices.
+     * @param weights Pesos en orden row-major (size * size), con INF donde no hay arista.
+     */
+    public LexFloyd(int size, long[] weights) {
+        if (weights.length != HeapIntMatrix.checkedLength(size)) {
+            throw new IllegalArgumentException("El arreglo no tiene " + size + "x" + size + " elementos");
+        }
+        this.V = size;
+        this.dist = weights;
+        this.next = new HeapIntMatrix(size);
+
+        for (int i = 0; i < V; i++) {
+            for (int j = 0; j < V; j++) {
+                next.set(i, j, (dist[i * V + j] != INF && i != j) ? j : -1);
+            }
+        }
+    }
+
+    /**
+     * Constructor que combina una matriz de tiempos y una de costos.
+     * @param time Matriz de tiempos (Integer.MAX_VALUE si no hay arista).
+     * @param cost Matriz de costos del mismo tamaño.
+     */
+    public LexFloyd(IntMatrix time, IntMatrix cost) {
+        this(time.size(), packAll(time, cost));
+    }
+
+    private static long[] packAll(IntMatrix time, IntMatrix cost) {
+        int n = time.size();
+        if (cost.size() != n) {
+            throw new IllegalArgumentException("Las matrices de tiempo y costo no tienen el mismo tamaño");
+        }
+        long[] packed = new long[HeapIntMatrix.checkedLength(n)];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int t = time.get(i, j);
+                int c = cost.get(i, j);
+                packed[i * n + j] = (t == Integer.MAX_VALUE || c == Integer.MAX_VALUE) ? INF : pack(t, c);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Método que construye la matriz de pesos empaquetados a partir de las etiquetas de un grafo.
+     * Se leen las aristas directamente de la matriz del grafo, sin una búsqueda por cada par.
+     * @param graph Grafo de origen.
+     * @param order Etiquetas de los vértices; order[i] pasa a ser el índice i.
+     * @param weight Función que empaqueta el peso de cada etiqueta de arista.
+     * @return Pesos en orden row-major, con 0 en la diagonal.
+     */
+    public static <V, E> long[] weightsOf(GraphMatrixDirected<V, E> graph, V[] order, Weight<? super E> weight) {
+        int n = order.length;
+        int[] rowOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            rowOf[i] = graph.getIndex(order[i]);
+            if (rowOf[i] < 0) {
+                throw new IllegalArgumentException("El vértice no existe en el grafo: " + order[i]);
+            }
+        }
+
+        long[] weights = new long[HeapIntMatrix.checkedLength(n)];
+        Arrays.fill(weights, INF);
+        for (int i = 0; i < n; i++) {
+            Object[] row = graph.data[rowOf[i]];
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    weights[i * n + j] = 0;
+                    continue;
+                }
+                @SuppressWarnings("unchecked")
+                GraphMatrixDirected.Edge<V, E> edge = (GraphMatrixDirected.Edge<V, E>) row[rowOf[j]];
+                if (edge != null) {
+                    weights[i * n + j] = weight.weight(edge.label());
+                }
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Método que empaqueta un tiempo y un costo.
+     * @param time Tiempo (no negativo).
+     * @param cost Costo (no negativo).
+     * @return Peso empaquetado.
+     */
+    public static long pack(int time, int cost) {
+        if (time < 0 || cost < 0 || time == Integer.MAX_VALUE || cost == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("El tiempo y el costo deben estar en [0, Integer.MAX_VALUE)");
+        }
+        return ((long) time << 32) | cost;
+    }
+
+    /**
+     * Método que extrae el tiempo de un peso empaquetado.
+     * @param packed Peso empaquetado (distinto de INF).
+     * @return Tiempo.
+     */
+    public static int time(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    /**
+     * Método que extrae el costo de un peso empaquetado.
+     * @param packed Peso empaquetado (distinto de INF).
+     * @return Costo.
+     */
+    public static int cost(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Método que suma dos pesos empaquetados componente a componente.
+     * @param a Primer peso.
+     * @param b Segundo peso.
+     * @return Suma, o INF si alguno es INF o si alguna componente se desborda.
+     */
+    public static long add(long a, long b) {
+        if (a == INF || b == INF) return INF;
+        long time = (a >>> 32) + (b >>> 32);
+        long cost = (a & 0xFFFFFFFFL) + (b & 0xFFFFFFFFL);
+        if (time >= Integer.MAX_VALUE || cost >= Integer.MAX_VALUE) return INF;
+        return (time << 32) | cost;
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Floyd con comparación lexicográfica (tiempo, costo).
+     */
+    public void compute() {
+        for (int k = 0; k < V; k++) {
+            int pivotOffset = k * V;
+            for (int i = 0; i < V; i++) {
+                long dik = dist[i * V + k];
+                if (dik == INF) continue;
+                int nik = next.get(i, k);
+                int rowOffset = i * V;
+
+                for (int j = 0; j < V; j++) {
+                    long candidate = add(dik, dist[pivotOffset + j]);
+                    if (candidate < dist[rowOffset + j]) {
+                        dist[rowOffset + j] = candidate;
+                        next.set(i, j, nik);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    public int size() {
+        return V;
+    }
+
+    /**
+     * Método que obtiene el peso empaquetado del mejor camino.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Peso empaquetado, o INF si no hay camino.
+     */
+    public long getWeight(int i, int j) {
+        return dist[i * V + j];
+    }
+
+    /**
+     * Método que obtiene el tiempo del mejor camino.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Tiempo, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int getTime(int i, int j) {
+        long w = dist[i * V + j];
+        return w == INF ? Integer.MAX_VALUE : time(w);
+    }
+
+    /**
+     * Método que obtiene el costo del mejor camino (el más barato entre los más rápidos).
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Costo, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int getCost(int i, int j) {
+        long w = dist[i * V + j];
+        return w == INF ? Integer.MAX_VALUE : cost(w);
+    }
+
+    /**
+     * Método que obtiene el mejor camino entre dos vértices.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Lista de índices del camino, o null si no hay camino.
+     */
+    public List<Integer> getPath(int i, int j) {
+        if (i != j && dist[i * V + j] == INF) {
+            return null;
+        }
+        return Floyd.followNext(next, i, j);
+    }
+}
@@ -3,55 +3,74 @@
  *  @version 1.0
  *  Descripción: Clase principal que implementa un sistema de modelado de red de rutas
  *  Fecha de creación: 21/05/2025
- *  Fecha de última modificación: 22/05/2025
+ *  Fecha de última modificación: 18/10/2026
  */
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 public class Main {
-    public static void main(String[] args) {
-        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(5);
+    private static final long EDGE_POLL_MILLIS = 2000;
 
-        graph.addVertex("A");
-        graph.addVertex("B");
-        graph.addVertex("C");
-        graph.addVertex("D");
-        graph.addVertex("E");
+    public static void main(String[] args) throws IOException {
+        Path resultFile = null;
+        Path edgeFile = null;
+        InetSocketAddress serverAddress = null;
+        for (int a = 0; a < args.length; a++) {
+            if (args[a].equals("--server") && a + 1 < args.length) {
+                serverAddress = parseAddress(args[++a]);
+            } else if (args[a].equals("--edges") && a + 1 < args.length) {
+                edgeFile = Paths.get(args[++a]);
+            } else {
+                resultFile = Paths.get(args[a]);
+            }
+        }
 
-        graph.addEdge("A", "A", 0);
-        graph.addEdge("A", "B", 3);
-        graph.addEdge("A", "D", 7);
-        graph.addEdge("B", "B", 0);
-        graph.addEdge("B", "C", 1);
-        graph.addEdge("B", "E", 8);
-        graph.addEdge("C", "C", 0);
-        graph.addEdge("C", "D", 2);
-        graph.addEdge("D", "D", 0);
-        graph.addEdge("D", "E", 3);
-        graph.addEdge("E", "E", 0);
-        graph.addEdge("E", "A", 4);
+        FloydBridge<String> bridge;
 
-        int n = graph.vertices().size();
-        int[][] initialDist = new int[n][n];
-        
-        for (int i = 0; i < n; i++) {
-            Arrays.fill(initialDist[i], Integer.MAX_VALUE);
-            initialDist[i][i] = 0;
-        }
-        
-        String[] vertexNames = graph.vertices().toArray(new String[0]);
-        for (int i = 0; i < n; i++) {
-            for (int j = 0; j < n; j++) {
-                Integer weight = graph.getEdge(vertexNames[i], vertexNames[j]);
-                if (weight != null) {
-                    initialDist[i][j] = weight;
-                }
+        if (resultFile != null && Files.exists(resultFile)) {
+            FloydFile loaded = FloydFile.load(resultFile);
+            bridge = FloydBridge.of(loaded.getFloyd(), loaded.getVertexNames());
+        } else if (edgeFile != null) {
+            IntGraphMatrix<String> graph = new IntGraphMatrix<>(16);
+            loadEdges(edgeFile, graph);
+            String[] vertexNames = graph.vertices().toArray(new String[0]);
+
+            Floyd floyd = new Floyd(graph.floydWeights());
+            floyd.compute();
+            bridge = FloydBridge.of(floyd, vertexNames);
+
+            if (resultFile != null) {
+                FloydFile.save(floyd, vertexNames, resultFile);
+            }
+        } else {
+            bridge = FloydBridge.fromGraph(buildGraph(), Integer::intValue);
+
+            if (resultFile != null) {
+                FloydFile.save(bridge.floyd(), bridge.getLabels().toArray(new String[0]), resultFile);
+            } else {
+                bridge.startInBackground();
             }
         }
 
-        Floyd floyd = new Floyd(initialDist);
-        floyd.compute();
+        String[] vertexNames = bridge.getLabels().toArray(new String[0]);
+        if (serverAddress != null) {
+            RouteServer server = new RouteServer(RouteSnapshot.of(bridge.floyd(), vertexNames, 1), serverAddress,
+                    Runtime.getRuntime().availableProcessors());
+            server.start();
+            System.out.println("Servidor de rutas escuchando en " + server.getAddress());
+            if (edgeFile != null) {
+                watchEdges(edgeFile, server);
+            }
+            return;
+        }
 
+        int n = vertexNames.length;
         Scanner scanner = new Scanner(System.in);
         int option = 0;
 
@@ -79,21 +98,21 @@ public class Main {
                     System.out.print("Ingrese la estación de destino (A, B, C, D, E): ");
                     String destination = scanner.next();
 
-                    int originIndex = Arrays.asList(vertexNames).indexOf(origin);
-                    int destinationIndex = Arrays.asList(vertexNames).indexOf(destination);
+                    int originIndex = bridge.indexOf(origin);
+                    int destinationIndex = bridge.indexOf(destination);
 
                     if (originIndex == -1 || destinationIndex == -1) {
                         System.out.println("Estación no válida.");
                         return;
                     }
 
-                    List<Integer> path = floyd.getPath(originIndex, destinationIndex);
+                    List<Integer> path = bridge.getPath(originIndex, destinationIndex);
                     if (path != null) {
                         System.out.print("Camino más corto: ");
                         for (int i : path) {
                             System.out.print(vertexNames[i] + " ");
                         }
-                        System.out.println("\nDistancia: " + floyd.getDistance(originIndex, destinationIndex));
+                        System.out.println("\nDistancia: " + bridge.getDistance(originIndex, destinationIndex));
                     } 
                     
                     else {
@@ -103,11 +122,12 @@ public class Main {
                     break;
 
                 case 2:
-                    String center = floyd.findGraphCenter(vertexNames);
+                    String center = bridge.floyd().findGraphCenter(vertexNames);
                     System.out.println("El centro del grafo es: " + center);
                     break;
 
                 case 3:
+                    Floyd floyd = bridge.floyd();
                     System.out.println("\nMatriz de distancias más cortas:");
                     System.out.print("\t");
                     for (String vertex : vertexNames) {
@@ -135,4 +155,106 @@ public class Main {
             }
         }
     }
+
+    /**
+     * Método que interpreta la dirección del modo servidor: "puerto" escucha solo en loopback y
+     * "dirección:puerto" en la dirección indicada (por ejemplo 0.0.0.0:8080 para todas las interfaces).
+     * @param value Valor de --server.
+     * @return Dirección y puerto donde escuchar.
+     */
+    private static InetSocketAddress parseAddress(String value) {
+        int colon = value.lastIndexOf(':');
+        if (colon < 0) {
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(value));
+        }
+        return new InetSocketAddress(value.substring(0, colon), Integer.parseInt(value.substring(colon + 1)));
+    }
+
+    /**
+     * Método que carga una lista de aristas, muestra el reporte y deja el grafo compactado (índices [0, n)).
+     * @param edgeFile Archivo de aristas.
+     * @param graph Grafo vacío donde se cargan las aristas.
+     * @return Reporte de la carga.
+     * @throws IOException Si el archivo no se puede leer.
+     */
+    private static EdgeListLoader.LoadReport loadEdges(Path edgeFile, IntGraphMatrix<String> graph) throws IOException {
+        EdgeListLoader.LoadReport report = EdgeListLoader.load(edgeFile, graph);
+        System.out.println("Grafo cargado: " + report);
+        for (String message : report.getErrorMessages()) {
+            System.out.println("  " + message);
+        }
+        graph.compact();
+        return report;
+    }
+
+    /**
+     * Método que vigila el archivo de aristas y, cada vez que cambia, recalcula las rutas en segundo
+     * plano con RouteServer.update(); el servidor sigue respondiendo con la versión anterior mientras tanto.
+     * Un archivo con líneas erróneas (por ejemplo, a medio escribir) no se publica, y un error de lectura
+     * solo se informa: en ambos casos se sigue vigilando.
+     * @param edgeFile Archivo de aristas.
+     * @param server Servidor en marcha.
+     */
+    private static void watchEdges(Path edgeFile, RouteServer server) {
+        long modified = -1;
+        while (true) {
+            try {
+                long current = Files.getLastModifiedTime(edgeFile).toMillis();
+                if (modified < 0) {
+                    modified = current;
+                } else if (current != modified) {
+                    IntGraphMatrix<String> graph = new IntGraphMatrix<>(16);
+                    EdgeListLoader.LoadReport report = loadEdges(edgeFile, graph);
+                    modified = current;
+                    if (report.getErrors() > 0) {
+                        System.out.println("El archivo de aristas tiene errores; se sigue sirviendo la versión "
+                                + server.snapshot().getVersion());
+                    } else {
+                        server.update(graph.floydWeights(), graph.vertices().toArray(new String[0]))
+                                .whenComplete((snapshot, error) -> System.out.println(error == null
+                                        ? "Rutas actualizadas a la versión " + snapshot.getVersion()
+                                        : "No se pudieron actualizar las rutas: " + error));
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("No se pudo leer el archivo de aristas: " + e.getMessage());
+            }
+
+            try {
+                Thread.sleep(EDGE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Método que construye la red de rutas de ejemplo.
+     * @return Grafo con las estaciones y rutas.
+     */
+    private static GraphMatrixDirected<String, Integer> buildGraph() {
+        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(5);
+
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addVertex("E");
+
+        graph.addEdge("A", "A", 0);
+        graph.addEdge("A", "B", 3);
+        graph.addEdge("A", "D", 7);
+        graph.addEdge("B", "B", 0);
+        graph.addEdge("B", "C", 1);
+        graph.addEdge("B", "E", 8);
+        graph.addEdge("C", "C", 0);
+        graph.addEdge("C", "D", 2);
+        graph.addEdge("D", "D", 0);
+        graph.addEdge("D", "E", 3);
+        graph.addEdge("E", "E", 0);
+        graph.addEdge("E", "A", 4);
+
+        return graph;
+    }
 }
\ No newline at end of file
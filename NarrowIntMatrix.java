@@ -0,0 +1,151 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Matriz de índices de vértice almacenada con 8 o 16 bits por celda.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+/**
+ * Implementación de IntMatrix para matrices de índices (como next de Floyd), cuyos valores están
+ * siempre en [-1, size). Cada celda guarda value + 1 sin signo, en un byte si size &lt;= 255 o
+ * en un short si no, lo que reduce la memoria a 1/4 o 1/2 de un int[].
+ * set() no valida el valor (solo con -ea): está en el bucle de relajación de Floyd. copyOf() sí
+ * valida todas las celdas al copiar.
+ */
+public abstract class NarrowIntMatrix implements IntMatrix {
+    /**
+     * Tamaño máximo: el menor entre lo que cabe en celdas de 16 bits (65535) y lo que se puede
+     * direccionar en un solo arreglo de size * size celdas (46340).
+     */
+    public static final int MAX_SIZE = Math.min(0xFFFF, (int) Math.sqrt(Integer.MAX_VALUE - 8));
+
+    protected final int size;
+
+    private NarrowIntMatrix(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Método que indica si una matriz de índices de este tamaño se puede comprimir.
+     * @param size Tamaño de la matriz.
+     * @return true si 0 &lt;= size &lt;= MAX_SIZE.
+     */
+    public static boolean fits(int size) {
+        return size >= 0 && size <= MAX_SIZE;
+    }
+
+    /**
+     * Método que crea una matriz vacía (todas las celdas en -1) con el tipo de celda más estrecho posible.
+     * @param size Tamaño de la matriz.
+     * @return Matriz de bytes o de shorts.
+     */
+    public static NarrowIntMatrix forIndices(int size) {
+        if (!fits(size)) {
+            throw new IllegalArgumentException("Los índices de " + size + " vértices no caben en una matriz estrecha");
+        }
+        return size <= 0xFF ? new Bytes(size) : new Shorts(size);
+    }
+
+    /**
+     * Método que copia una matriz de índices a una matriz estrecha.
+     * @param matrix Matriz con valores en [-1, size).
+     * @return Copia comprimida.
+     */
+    public static NarrowIntMatrix copyOf(IntMatrix matrix) {
+        int n = matrix.size();
+        NarrowIntMatrix result = forIndices(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                int value = matrix.get(i, j);
+                result.check(value);
+                result.set(i, j, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Método que devuelve los bytes que ocupa cada celda.
+     * @return 1 o 2.
+     */
+    public abstract int bytesPerCell();
+
+    /**
+     * Método que crea una matriz vacía del mismo tipo. Como solo guarda índices, sus celdas valen -1
+     * en lugar de cero.
+     * @param size Tamaño de la nueva matriz.
+     * @return Nueva matriz estrecha.
+     */
+    @Override
+    public IntMatrix allocate(int size) {
+        return forIndices(size);
+    }
+
+    private void check(int value) {
+        if (value < -1 || value >= size) {
+            throw new IllegalArgumentException("El valor " + value + " no es un índice de vértice");
+        }
+    }
+
+    /**
+     * Celdas de 8 bits (hasta 255 vértices).
+     */
+    private static final class Bytes extends NarrowIntMatrix {
+        private final byte[] data;
+
+        private Bytes(int size) {
+            super(size);
+            this.data = new byte[HeapIntMatrix.checkedLength(size)];
+        }
+
+        @Override
+        public int get(int i, int j) {
+            return (data[i * size + j] & 0xFF) - 1;
+        }
+
+        @Override
+        public void set(int i, int j, int value) {
+            assert value >= -1 && value < size : value;
+            data[i * size + j] = (byte) (value + 1);
+        }
+
+        @Override
+        public int bytesPerCell() {
+            return Byte.BYTES;
+        }
+    }
+
+    /**
+     * Celdas de 16 bits (hasta 65535 vértices).
+     */
+    private static final class Shorts extends NarrowIntMatrix {
+        private final short[] data;
+
+        private Shorts(int size) {
+            super(size);
+            this.data = new short[HeapIntMatrix.checkedLength(size)];
+        }
+
+        @Override
+        public int get(int i, int j) {
+            return (data[i * size + j] & 0xFFFF) - 1;
+        }
+
+        @Override
+        public void set(int i, int j, int value) {
+            assert value >= -1 && value < size : value;
+            data[i * size + j] = (short) (value + 1);
+        }
+
+        @Override
+        public int bytesPerCell() {
+            return Short.BYTES;
+        }
+    }
+}
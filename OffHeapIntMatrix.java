@@ -0,0 +1,99 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Matriz de enteros almacenada fuera del heap en buffers directos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Implementación de IntMatrix sobre ByteBuffers directos (o mapeados a archivo).
+ * Como un ByteBuffer no puede superar 2 GB, las filas se reparten en bloques de filas contiguas.
+ */
+public class OffHeapIntMatrix implements IntMatrix {
+    private static final int MAX_CHUNK_BYTES = Integer.MAX_VALUE - 8;
+
+    private final int size;
+    private final int rowsPerChunk;
+    private final ByteBuffer[] chunks;
+
+    /**
+     * Constructor que reserva una matriz vacía fuera del heap.
+     * @param size Tamaño de la matriz.
+     */
+    public OffHeapIntMatrix(int size) {
+        this.size = size;
+        this.rowsPerChunk = rowsPerChunk(size);
+        this.chunks = new ByteBuffer[chunkCount(size)];
+        for (int c = 0; c < chunks.length; c++) {
+            int rows = Math.min(rowsPerChunk, size - c * rowsPerChunk);
+            chunks[c] = ByteBuffer.allocateDirect(rows * size * Integer.BYTES).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Constructor que envuelve buffers existentes sin copiarlos (por ejemplo, regiones de un archivo mapeado).
+     * Cada buffer debe contener rowsPerChunk(size) filas, salvo el último.
+     * @param size Tamaño de la matriz.
+     * @param chunks Buffers con las filas de la matriz en orden.
+     */
+    OffHeapIntMatrix(int size, ByteBuffer[] chunks) {
+        if (chunks.length != chunkCount(size)) {
+            throw new IllegalArgumentException("Número de buffers incorrecto para una matriz de tamaño " + size);
+        }
+        this.size = size;
+        this.rowsPerChunk = rowsPerChunk(size);
+        this.chunks = chunks;
+    }
+
+    /**
+     * Método que calcula cuántas filas caben en un buffer.
+     * @param size Tamaño de la matriz.
+     * @return Filas por buffer.
+     */
+    static int rowsPerChunk(int size) {
+        if (size <= 0) return 1;
+        long rowBytes = (long) size * Integer.BYTES;
+        return (int) Math.max(1, Math.min(size, MAX_CHUNK_BYTES / rowBytes));
+    }
+
+    /**
+     * Método que calcula cuántos buffers necesita una matriz.
+     * @param size Tamaño de la matriz.
+     * @return Número de buffers.
+     */
+    static int chunkCount(int size) {
+        int rows = rowsPerChunk(size);
+        return (size + rows - 1) / rows;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(int i, int j) {
+        return chunks[i / rowsPerChunk].getInt(offset(i, j));
+    }
+
+    @Override
+    public void set(int i, int j, int value) {
+        chunks[i / rowsPerChunk].putInt(offset(i, j), value);
+    }
+
+    @Override
+    public IntMatrix allocate(int size) {
+        return new OffHeapIntMatrix(size);
+    }
+
+    /**
+     * Método que calcula la posición en bytes de una celda dentro de su buffer.
+     */
+    private int offset(int i, int j) {
+        return ((i % rowsPerChunk) * size + j) * Integer.BYTES;
+    }
+}
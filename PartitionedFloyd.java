@@ -0,0 +1,393 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Floyd por bloques repartido entre varios trabajadores conectados por sockets.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: reparto 2D cíclico por bloques de Floyd-Warshall (fases 1 y 2 en el coordinador, fase 3 en los trabajadores)
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinador de computeBlocked() repartido entre varios trabajadores (FloydWorker), como hilos del
+ * mismo proceso o como JVM independientes. Los trabajadores forman una rejilla de rows x cols y el
+ * bloque (ib, jb) pertenece al trabajador (ib % rows, jb % cols), así que cada uno guarda solo
+ * una parte de la matriz.
+ *
+ * En cada ronda kb el coordinador, que tiene los bloques de la fila y la columna kb, calcula el bloque
+ * diagonal (fase 1) y los paneles del pivote (fase 2), y envía a cada trabajador únicamente los trozos
+ * de los paneles que cruzan sus bloques. Los trabajadores aplican la fase 3 en paralelo y devuelven
+ * los bloques de la fila y columna kb + 1. Al final se recogen todos los bloques en una instancia de
+ * Floyd normal; dist y next son idénticos a los de computeBlocked(blockSize).
+ */
+public class PartitionedFloyd {
+    private static final int ACCEPT_TIMEOUT_MS = 60_000;
+    private static final int ACCEPT_POLL_MS = 200;
+    private static final long EXIT_TIMEOUT_SECONDS = 30;
+
+    private final int blockSize;
+    private final int rows;
+    private final int cols;
+
+    /**
+     * Constructor que configura el reparto.
+     * @param blockSize Tamaño del bloque; debe ser mayor que cero.
+     * @param workers Número de trabajadores; se organizan en la rejilla más cuadrada posible.
+     */
+    public PartitionedFloyd(int blockSize, int workers) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Debe haber al menos un trabajador");
+        }
+        int r = (int) Math.sqrt(workers);
+        while (workers % r != 0) r--;
+        this.blockSize = blockSize;
+        this.rows = r;
+        this.cols = workers / r;
+    }
+
+    /**
+     * Método que devuelve el número de trabajadores.
+     * @return rows * cols.
+     */
+    public int workers() {
+        return rows * cols;
+    }
+
+    /**
+     * Método que calcula todos los pares con los trabajadores como hilos de este proceso.
+     * La comunicación es la misma que entre procesos (sockets por loopback).
+     * @param weights Matriz de pesos; se sobrescribe con las distancias, como en Floyd(IntMatrix).
+     * @return Resultado completo.
+     * @throws IOException Si falla la comunicación con algún trabajador.
+     */
+    public Floyd computeInThreads(IntMatrix weights) throws IOException {
+        return compute(weights, null);
+    }
+
+    /**
+     * Método que calcula todos los pares lanzando cada trabajador en una JVM aparte. El classpath de los
+     * trabajadores es la ubicación de la clase FloydWorker (el directorio o jar de donde se cargó), que es
+     * correcta aunque la aplicación se haya lanzado con -jar o desde un IDE.
+     * @param weights Matriz de pesos; se sobrescribe con las distancias, como en Floyd(IntMatrix).
+     * @return Resultado completo.
+     * @throws IOException Si no se pueden lanzar los procesos o falla la comunicación.
+     */
+    public Floyd computeInProcesses(IntMatrix weights) throws IOException {
+        return computeInProcesses(weights, workerClasspath());
+    }
+
+    /**
+     * Método que calcula todos los pares lanzando cada trabajador en una JVM aparte con un classpath dado.
+     * Si un trabajador termina antes de conectarse (classpath erróneo, falta de memoria al arrancar...)
+     * el cálculo falla de inmediato con su código de salida; su salida de errores se ve en la de este proceso.
+     * @param weights Matriz de pesos; se sobrescribe con las distancias, como en Floyd(IntMatrix).
+     * @param classpath Classpath con el que se lanza FloydWorker.
+     * @return Resultado completo.
+     * @throws IOException Si no se pueden lanzar los procesos o falla la comunicación.
+     */
+    public Floyd computeInProcesses(IntMatrix weights, String classpath) throws IOException {
+        return compute(weights, classpath);
+    }
+
+    private Floyd compute(IntMatrix weights, String classpath) throws IOException {
+        boolean processes = classpath != null;
+        int V = weights.size();
+        if (V == 0) return new Floyd(weights);
+
+        long start = FloydMetrics.start();
+        int blocks = (V + blockSize - 1) / blockSize;
+        int workers = workers();
+        FloydWorker.Link[] links = new FloydWorker.Link[workers];
+        List<Thread> threads = new ArrayList<>();
+        List<Process> children = new ArrayList<>();
+        IntMatrix next = weights.allocate(V);
+        boolean completed = false;
+
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(ACCEPT_POLL_MS);
+            String host = InetAddress.getLoopbackAddress().getHostAddress();
+            int port = server.getLocalPort();
+            for (int w = 0; w < workers; w++) {
+                if (processes) {
+                    children.add(launchProcess(classpath, host, port));
+                } else {
+                    threads.add(launchThread(host, port, w));
+                }
+            }
+
+            long deadline = System.currentTimeMillis() + ACCEPT_TIMEOUT_MS;
+            for (int w = 0; w < workers; w++) {
+                links[w] = new FloydWorker.Link(accept(server, threads, children, deadline));
+                sendTiles(links[w], w, weights, blocks);
+            }
+
+            int[][] rowDist = new int[blocks][];
+            int[][] rowNext = new int[blocks][];
+            int[][] colDist = new int[blocks][];
+            int[][] colNext = new int[blocks][];
+            initialPanels(weights, blocks, rowDist, rowNext, colDist, colNext);
+
+            for (int kb = 0; kb < blocks; kb++) {
+                pivotPhases(kb, blocks, V, rowDist, rowNext, colDist, colNext);
+                for (int w = 0; w < workers; w++) {
+                    sendPanels(links[w], w, kb, blocks, rowDist, rowNext, colDist, colNext);
+                }
+                if (kb + 1 < blocks) {
+                    for (int w = 0; w < workers; w++) {
+                        receivePanels(links[w], w, kb + 1, blocks, V, rowDist, rowNext, colDist, colNext);
+                    }
+                    colDist[kb + 1] = rowDist[kb + 1];
+                    colNext[kb + 1] = rowNext[kb + 1];
+                } else {
+                    for (FloydWorker.Link link : links) {
+                        link.readInt();
+                    }
+                }
+            }
+
+            for (int w = 0; w < workers; w++) {
+                collect(links[w], w, blocks, V, weights, next);
+            }
+            completed = true;
+        } finally {
+            for (FloydWorker.Link link : links) {
+                if (link != null) link.close();
+            }
+            awaitWorkers(threads, children, completed);
+        }
+
+        if (FloydMetrics.ENABLED) FloydMetrics.recordCompute("computePartitioned", V, -1, start);
+        return new Floyd(weights, next);
+    }
+
+    private Thread launchThread(String host, int port, int w) {
+        Thread thread = new Thread(() -> {
+            try {
+                FloydWorker.run(host, port);
+            } catch (IOException e) {
+                throw new IllegalStateException("El trabajador " + w + " perdió la conexión", e);
+            }
+        }, "floyd-worker-" + w);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private Process launchProcess(String classpath, String host, int port) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        // La entrada estándar no se hereda: el trabajador no la usa y podría quitársela a este proceso.
+        return new ProcessBuilder(java, "-cp", classpath, "FloydWorker", host, Integer.toString(port))
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private static String workerClasspath() {
+        CodeSource source = FloydWorker.class.getProtectionDomain().getCodeSource();
+        if (source == null) {
+            return System.getProperty("java.class.path");
+        }
+        try {
+            return Paths.get(source.getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("No se pudo determinar el classpath de FloydWorker", e);
+        }
+    }
+
+    /**
+     * Método que espera la conexión de un trabajador en intervalos cortos, comprobando entre uno y otro
+     * que ningún trabajador haya terminado, para no esperar el plazo completo a uno que ya murió.
+     */
+    private Socket accept(ServerSocket server, List<Thread> threads, List<Process> children, long deadline)
+            throws IOException {
+        while (true) {
+            try {
+                return server.accept();
+            } catch (SocketTimeoutException e) {
+                for (Process child : children) {
+                    if (!child.isAlive()) {
+                        throw new IOException("Un trabajador terminó con código " + child.exitValue()
+                                + " antes de conectarse");
+                    }
+                }
+                for (Thread thread : threads) {
+                    if (!thread.isAlive()) {
+                        throw new IOException("El hilo " + thread.getName() + " terminó antes de conectarse");
+                    }
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    throw new SocketTimeoutException("Los trabajadores no se conectaron en "
+                            + ACCEPT_TIMEOUT_MS / 1000 + " s");
+                }
+            }
+        }
+    }
+
+    private void awaitWorkers(List<Thread> threads, List<Process> children, boolean completed) throws IOException {
+        try {
+            for (Thread thread : threads) {
+                thread.join(TimeUnit.SECONDS.toMillis(EXIT_TIMEOUT_SECONDS));
+            }
+            for (Process child : children) {
+                if (!completed || !child.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    child.destroyForcibly();
+                } else if (child.exitValue() != 0) {
+                    throw new IOException("Un trabajador terminó con código " + child.exitValue());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            children.forEach(Process::destroyForcibly);
+        }
+    }
+
+    private int extent(int block, int V) {
+        return Math.min(blockSize, V - block * blockSize);
+    }
+
+    private int[] rowsOf(int worker, int blocks) {
+        return FloydWorker.owned(blocks, rows, worker / cols);
+    }
+
+    private int[] colsOf(int worker, int blocks) {
+        return FloydWorker.owned(blocks, cols, worker % cols);
+    }
+
+    private int[] readBlock(IntMatrix matrix, int ib, int jb, int V) {
+        int i0 = ib * blockSize;
+        int j0 = jb * blockSize;
+        int h = extent(ib, V);
+        int w = extent(jb, V);
+        int[] block = new int[h * w];
+        for (int i = 0; i < h; i++) {
+            for (int j = 0; j < w; j++) {
+                block[i * w + j] = matrix.get(i0 + i, j0 + j);
+            }
+        }
+        return block;
+    }
+
+    private void writeBlock(IntMatrix matrix, int ib, int jb, int V, int[] block) {
+        int i0 = ib * blockSize;
+        int j0 = jb * blockSize;
+        int h = extent(ib, V);
+        int w = extent(jb, V);
+        for (int i = 0; i < h; i++) {
+            for (int j = 0; j < w; j++) {
+                matrix.set(i0 + i, j0 + j, block[i * w + j]);
+            }
+        }
+    }
+
+    private void sendTiles(FloydWorker.Link link, int worker, IntMatrix weights, int blocks) throws IOException {
+        int V = weights.size();
+        link.writeInt(V);
+        link.writeInt(blockSize);
+        link.writeInt(rows);
+        link.writeInt(cols);
+        link.writeInt(worker / cols);
+        link.writeInt(worker % cols);
+        for (int ib : rowsOf(worker, blocks)) {
+            for (int jb : colsOf(worker, blocks)) {
+                link.writeInts(readBlock(weights, ib, jb, V));
+            }
+        }
+        link.flush();
+    }
+
+    private void initialPanels(IntMatrix weights, int blocks, int[][] rowDist, int[][] rowNext,
+                               int[][] colDist, int[][] colNext) {
+        int V = weights.size();
+        for (int b = 0; b < blocks; b++) {
+            rowDist[b] = readBlock(weights, 0, b, V);
+            rowNext[b] = FloydWorker.initialNext(rowDist[b], 0, b * blockSize, extent(b, V));
+            if (b == 0) {
+                colDist[b] = rowDist[b];
+                colNext[b] = rowNext[b];
+            } else {
+                colDist[b] = readBlock(weights, b, 0, V);
+                colNext[b] = FloydWorker.initialNext(colDist[b], b * blockSize, 0, extent(0, V));
+            }
+        }
+    }
+
+    /**
+     * Método que aplica las fases 1 y 2 de la ronda kb sobre los paneles del pivote.
+     */
+    private void pivotPhases(int kb, int blocks, int V, int[][] rowDist, int[][] rowNext,
+                             int[][] colDist, int[][] colNext) {
+        int kw = extent(kb, V);
+        int[] diagDist = rowDist[kb];
+        int[] diagNext = rowNext[kb];
+        FloydWorker.relax(kw, kw, kw, diagDist, diagNext, diagDist, diagDist, diagNext);
+
+        for (int b = 0; b < blocks; b++) {
+            if (b == kb) continue;
+            int bw = extent(b, V);
+            FloydWorker.relax(kw, kw, bw, diagDist, diagNext, rowDist[b], rowDist[b], rowNext[b]);
+            FloydWorker.relax(kw, bw, kw, colDist[b], colNext[b], diagDist, colDist[b], colNext[b]);
+        }
+    }
+
+    private void sendPanels(FloydWorker.Link link, int worker, int kb, int blocks, int[][] rowDist,
+                            int[][] rowNext, int[][] colDist, int[][] colNext) throws IOException {
+        link.writeInt(FloydWorker.ROUND);
+        link.writeInt(kb);
+        for (int jb : colsOf(worker, blocks)) {
+            link.writeInts(rowDist[jb]);
+            link.writeInts(rowNext[jb]);
+        }
+        for (int ib : rowsOf(worker, blocks)) {
+            link.writeInts(colDist[ib]);
+            link.writeInts(colNext[ib]);
+        }
+        link.flush();
+    }
+
+    private void receivePanels(FloydWorker.Link link, int worker, int kb, int blocks, int V, int[][] rowDist,
+                               int[][] rowNext, int[][] colDist, int[][] colNext) throws IOException {
+        int kw = extent(kb, V);
+        int[] myRows = rowsOf(worker, blocks);
+        int[] myCols = colsOf(worker, blocks);
+        if (kb % rows == worker / cols) {
+            for (int jb : myCols) {
+                rowDist[jb] = link.readInts(kw * extent(jb, V));
+                rowNext[jb] = link.readInts(rowDist[jb].length);
+            }
+        }
+        if (kb % cols == worker % cols) {
+            for (int ib : myRows) {
+                if (ib == kb) continue;
+                colDist[ib] = link.readInts(extent(ib, V) * kw);
+                colNext[ib] = link.readInts(colDist[ib].length);
+            }
+        }
+    }
+
+    private void collect(FloydWorker.Link link, int worker, int blocks, int V, IntMatrix dist, IntMatrix next)
+            throws IOException {
+        link.writeInt(FloydWorker.COLLECT);
+        link.flush();
+        for (int ib : rowsOf(worker, blocks)) {
+            for (int jb : colsOf(worker, blocks)) {
+                int size = extent(ib, V) * extent(jb, V);
+                writeBlock(dist, ib, jb, V, link.readInts(size));
+                writeBlock(next, ib, jb, V, link.readInts(size));
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Servidor HTTP de consultas de rutas sobre instantáneas inmutables de Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Modo servidor sin interfaz: responde consultas de camino, distancia y centro por HTTP.
+ * Rutas (solo GET, respuesta en texto plano UTF-8):
+ * <ul>
+ *   <li>/path?from=A&amp;to=B: estaciones del camino separadas por espacios y, en otra línea, la distancia.</li>
+ *   <li>/distance?from=A&amp;to=B: distancia más corta.</li>
+ *   <li>/center: centro del grafo.</li>
+ * </ul>
+ * Por defecto solo escucha en la interfaz de loopback; para exponerlo se debe indicar la dirección.
+ * Cada consulta lee la instantánea actual con una sola lectura de un AtomicReference, sin bloqueos.
+ * Los cambios del grafo se calculan en un hilo de fondo sobre una instantánea nueva, que se publica
+ * de forma atómica; los lectores nunca esperan ni ven una matriz a medio actualizar.
+ */
+public class RouteServer {
+    private final AtomicReference<RouteSnapshot> current;
+    private final AtomicLong lastVersion;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ExecutorService recompute;
+
+    /**
+     * Constructor que prepara el servidor en la interfaz de loopback (no empieza a escuchar hasta
+     * llamar a start()).
+     * @param initial Instantánea inicial.
+     * @param port Puerto TCP (0 para elegir uno libre).
+     * @param threads Número de hilos que atienden consultas.
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public RouteServer(RouteSnapshot initial, int port, int threads) throws IOException {
+        this(initial, new InetSocketAddress(InetAddress.getLoopbackAddress(), port), threads);
+    }
+
+    /**
+     * Constructor que prepara el servidor en una dirección explícita (no empieza a escuchar hasta
+     * llamar a start()).
+     * @param initial Instantánea inicial.
+     * @param address Dirección y puerto TCP donde escuchar (puerto 0 para elegir uno libre).
+     * @param threads Número de hilos que atienden consultas.
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public RouteServer(RouteSnapshot initial, InetSocketAddress address, int threads) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("El número de hilos debe ser positivo");
+        }
+        this.current = new AtomicReference<>(initial);
+        this.lastVersion = new AtomicLong(initial.getVersion());
+        this.server = HttpServer.create(address, 0);
+        this.workers = Executors.newFixedThreadPool(threads);
+        this.recompute = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "route-recompute");
+            t.setDaemon(true);
+            return t;
+        });
+
+        server.createContext("/path", exchange -> handle(exchange, this::path));
+        server.createContext("/distance", exchange -> handle(exchange, this::distance));
+        server.createContext("/center", exchange -> handle(exchange, this::center));
+        server.setExecutor(workers);
+    }
+
+    /**
+     * Método que empieza a atender consultas.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Método que detiene el servidor y sus hilos.
+     */
+    public void stop() {
+        server.stop(0);
+        workers.shutdown();
+        recompute.shutdown();
+    }
+
+    /**
+     * Método que devuelve el puerto en el que escucha el servidor.
+     * @return Puerto TCP.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Método que devuelve la dirección en la que escucha el servidor.
+     * @return Dirección y puerto.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Método que devuelve la instantánea que se está sirviendo.
+     * @return Instantánea actual.
+     */
+    public RouteSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Método que publica una instantánea ya calculada.
+     * Si ya se sirve una versión más reciente, la instantánea se descarta.
+     * @param snapshot Instantánea nueva.
+     * @return Instantánea que queda publicada.
+     */
+    public RouteSnapshot publish(RouteSnapshot snapshot) {
+        lastVersion.accumulateAndGet(snapshot.getVersion(), Math::max);
+        return current.accumulateAndGet(snapshot,
+                (old, candidate) -> candidate.getVersion() > old.getVersion() ? candidate : old);
+    }
+
+    /**
+     * Método que recalcula las rutas para un grafo nuevo en segundo plano y publica el resultado.
+     * Mientras tanto se sigue sirviendo la instantánea anterior.
+     * @param weights Matriz de pesos del grafo nuevo (Floyd toma posesión de ella).
+     * @param names Nombres de las estaciones en el orden de la matriz.
+     * @return Futuro que se completa con la instantánea publicada.
+     */
+    public CompletableFuture<RouteSnapshot> update(IntMatrix weights, String[] names) {
+        long version = lastVersion.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> RouteSnapshot.compute(weights, names, version), recompute)
+                .thenApply(this::publish);
+    }
+
+    /**
+     * Respuesta de una consulta.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Consulta que se resuelve sobre una única instantánea.
+     */
+    private interface Query {
+        Response answer(RouteSnapshot snapshot, Map<String, String> params);
+    }
+
+    private void handle(HttpExchange exchange, Query query) throws IOException {
+        try {
+            RouteSnapshot snapshot = current.get();
+            Response response;
+            try {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    response = new Response(405, "Método no permitido");
+                } else {
+                    response = query.answer(snapshot, parseQuery(exchange.getRequestURI().getRawQuery()));
+                }
+            } catch (IllegalArgumentException e) {
+                response = new Response(400, e.getMessage());
+            } catch (RuntimeException e) {
+                // El detalle queda en el registro del servidor; el cliente solo recibe un mensaje genérico.
+                System.err.println("Error al atender " + exchange.getRequestURI() + ":");
+                e.printStackTrace();
+                response = new Response(500, "Error interno");
+            }
+
+            byte[] body = (response.body + "\n").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.getResponseHeaders().set("X-Snapshot-Version", Long.toString(snapshot.getVersion()));
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response path(RouteSnapshot snapshot, Map<String, String> params) {
+        int from = station(snapshot, params, "from");
+        int to = station(snapshot, params, "to");
+        if (from < 0 || to < 0) {
+            return new Response(404, "Estación no válida.");
+        }
+
+        List<Integer> path = snapshot.getPath(from, to);
+        if (path == null) {
+            return new Response(404, "No hay camino entre las estaciones seleccionadas.");
+        }
+
+        StringBuilder body = new StringBuilder();
+        for (int i : path) {
+            if (body.length() > 0) body.append(' ');
+            body.append(snapshot.name(i));
+        }
+        body.append('\n').append(snapshot.getDistance(from, to));
+        return new Response(200, body.toString());
+    }
+
+    private Response distance(RouteSnapshot snapshot, Map<String, String> params) {
+        int from = station(snapshot, params, "from");
+        int to = station(snapshot, params, "to");
+        if (from < 0 || to < 0) {
+            return new Response(404, "Estación no válida.");
+        }
+
+        int distance = snapshot.getDistance(from, to);
+        if (distance == Integer.MAX_VALUE) {
+            return new Response(404, "No hay camino entre las estaciones seleccionadas.");
+        }
+        return new Response(200, Integer.toString(distance));
+    }
+
+    private Response center(RouteSnapshot snapshot, Map<String, String> params) {
+        String center = snapshot.getCenter();
+        if (center == null) {
+            return new Response(404, "El grafo está vacío.");
+        }
+        return new Response(200, center);
+    }
+
+    private static int station(RouteSnapshot snapshot, Map<String, String> params, String key) {
+        String name = params.get(key);
+        if (name == null) {
+            throw new IllegalArgumentException("Falta el parámetro " + key);
+        }
+        return snapshot.indexOf(name);
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) return params;
+
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
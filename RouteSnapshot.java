@@ -0,0 +1,126 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Resultado de Floyd inmutable, listo para ser consultado desde varios hilos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.List;
+
+/**
+ * Instantánea de la red de rutas: el resultado de Floyd ya calculado, los nombres de las estaciones,
+ * un índice nombre -> posición y el centro del grafo precalculado.
+ * Una vez creada nadie la modifica, por lo que se puede leer desde cualquier hilo sin bloqueos.
+ */
+public final class RouteSnapshot {
+    private final Floyd floyd;
+    private final String[] names;
+    private final LabelIndex<String> index;
+    private final String center;
+    private final long version;
+
+    private RouteSnapshot(Floyd floyd, String[] names, long version) {
+        this.floyd = floyd;
+        this.names = names.clone();
+        this.index = new LabelIndex<>(names.length);
+        for (int i = 0; i < names.length; i++) {
+            index.put(names[i], i);
+        }
+        this.center = names.length == 0 ? null : floyd.findGraphCenter(this.names);
+        this.version = version;
+    }
+
+    /**
+     * Método que calcula una instantánea nueva a partir de una matriz de pesos.
+     * Floyd toma posesión de la matriz.
+     * @param weights Matriz de pesos (Integer.MAX_VALUE si no hay arista).
+     * @param names Nombres de las estaciones en el orden de la matriz.
+     * @param version Número de versión de la instantánea.
+     * @return Instantánea calculada.
+     */
+    public static RouteSnapshot compute(IntMatrix weights, String[] names, long version) {
+        if (names.length != weights.size()) {
+            throw new IllegalArgumentException("El array de nombres no coincide con el tamaño del grafo");
+        }
+        Floyd floyd = new Floyd(weights);
+        floyd.compute();
+        return new RouteSnapshot(floyd, names, version);
+    }
+
+    /**
+     * Método que envuelve un resultado ya calculado. El resultado no se debe modificar después.
+     * @param floyd Resultado calculado.
+     * @param names Nombres de las estaciones en el orden de la matriz.
+     * @param version Número de versión de la instantánea.
+     * @return Instantánea.
+     */
+    public static RouteSnapshot of(Floyd floyd, String[] names, long version) {
+        if (names.length != floyd.size()) {
+            throw new IllegalArgumentException("El array de nombres no coincide con el tamaño del grafo");
+        }
+        return new RouteSnapshot(floyd, names, version);
+    }
+
+    /**
+     * Método que obtiene el índice de una estación.
+     * @param name Nombre de la estación.
+     * @return Índice, o -1 si no existe.
+     */
+    public int indexOf(String name) {
+        return index.get(name);
+    }
+
+    /**
+     * Método que obtiene el nombre de una estación.
+     * @param i Índice de la estación.
+     * @return Nombre.
+     */
+    public String name(int i) {
+        return names[i];
+    }
+
+    /**
+     * Método que obtiene la distancia más corta entre dos estaciones.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Distancia, o Integer.MAX_VALUE si no hay camino.
+     */
+    public int getDistance(int i, int j) {
+        return floyd.getDistance(i, j);
+    }
+
+    /**
+     * Método que obtiene el camino más corto entre dos estaciones.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return Lista de índices, o null si no hay camino.
+     */
+    public List<Integer> getPath(int i, int j) {
+        return floyd.getPath(i, j);
+    }
+
+    /**
+     * Método que devuelve el centro del grafo (calculado al crear la instantánea).
+     * @return Nombre de la estación central.
+     */
+    public String getCenter() {
+        return center;
+    }
+
+    /**
+     * Método que devuelve la versión de la instantánea.
+     * @return Versión.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Método que devuelve el número de estaciones.
+     * @return Número de estaciones.
+     */
+    public int size() {
+        return names.length;
+    }
+}
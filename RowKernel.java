@@ -0,0 +1,79 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Núcleo de relajación de una fila de Floyd sobre arreglos planos.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+/**
+ * Relaja una fila de la matriz de distancias contra la fila del pivote:
+ * dist[i][j] = min(dist[i][j], dist[i][k] + dist[k][j]) y, si mejora, next[i][j] = next[i][k].
+ * Usa exactamente las mismas comprobaciones de Integer.MAX_VALUE que Floyd.compute().
+ */
+public interface RowKernel {
+
+    /**
+     * Método que relaja las columnas [from, to) de una fila.
+     * @param dist Matriz de distancias (row-major).
+     * @param next Matriz de siguientes (row-major).
+     * @param rowOffset Posición de dist[i][0].
+     * @param pivotOffset Posición de dist[k][0].
+     * @param dik Valor de dist[i][k] (distinto de Integer.MAX_VALUE).
+     * @param nik Valor de next[i][k].
+     * @param from Primera columna (inclusive).
+     * @param to Última columna (exclusive).
+     */
+    void relaxRow(int[] dist, int[] next, int rowOffset, int pivotOffset, int dik, int nik, int from, int to);
+
+    /**
+     * Método que devuelve el mejor núcleo disponible: el vectorial (simd/VectorRowKernel) si la clase
+     * está en el classpath y el módulo jdk.incubator.vector está cargado; si no, el escalar.
+     * @return Núcleo de relajación.
+     */
+    static RowKernel best() {
+        return Holder.BEST;
+    }
+
+    /**
+     * Núcleo escalar, equivalente al bucle interno de Floyd.compute().
+     */
+    final class Scalar implements RowKernel {
+        @Override
+        public void relaxRow(int[] dist, int[] next, int rowOffset, int pivotOffset, int dik, int nik,
+                             int from, int to) {
+            for (int j = from; j < to; j++) {
+                int dkj = dist[pivotOffset + j];
+                if (dkj != Integer.MAX_VALUE && dik <= Integer.MAX_VALUE - dkj) {
+                    int newDist = dik + dkj;
+                    int dij = dist[rowOffset + j];
+                    if (dij == Integer.MAX_VALUE || newDist < dij) {
+                        dist[rowOffset + j] = newDist;
+                        next[rowOffset + j] = nik;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Carga perezosa del núcleo para no tocar el módulo incubador hasta que se necesite.
+     */
+    final class Holder {
+        static final RowKernel BEST = load();
+
+        private Holder() {
+        }
+
+        private static RowKernel load() {
+            if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+                try {
+                    return (RowKernel) Class.forName("VectorRowKernel").getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    // Sin la clase o sin el módulo se usa el núcleo escalar.
+                }
+            }
+            return new Scalar();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Interfaz común para los motores de caminos más cortos entre todos los pares.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.List;
+
+/**
+ * Motor de caminos más cortos entre todos los pares de vértices.
+ * Floyd es el motor denso (O(V³)); Johnson es el motor disperso (O(V·E·log V)).
+ */
+public interface ShortestPaths {
+
+    /**
+     * Método que calcula las distancias más cortas entre todos los pares de vértices.
+     */
+    void compute();
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    int size();
+
+    /**
+     * Método que obtiene la distancia más corta entre dos vértices.
+     * @param i Índice del primer vértice.
+     * @param j Índice del segundo vértice.
+     * @return Distancia más corta, o Integer.MAX_VALUE si no hay camino.
+     */
+    int getDistance(int i, int j);
+
+    /**
+     * Método que obtiene el camino más corto entre dos vértices.
+     * @param i Índice del primer vértice.
+     * @param j Índice del segundo vértice.
+     * @return Lista de índices del camino, o null si no hay camino.
+     */
+    List<Integer> getPath(int i, int j);
+
+    /**
+     * Método que encuentra el centro del grafo.
+     * @param vertexNames Array de nombres de los vértices.
+     * @return Nombre del vértice central.
+     */
+    String findGraphCenter(String[] vertexNames);
+
+    /**
+     * Método que elige el motor según la densidad de aristas de la matriz de pesos.
+     * Si V·E·log V es menor que V³ conviene Dijkstra desde cada origen (Johnson); si no, Floyd.
+     * En el caso denso Floyd toma posesión de la matriz.
+     * Antes de elegir, la diagonal positiva o sin arista (Integer.MAX_VALUE) se pone en 0: Johnson siempre
+     * da dist(i, i) = 0 y Floyd conserva la diagonal de entrada, así que sin esto la respuesta para i -> i
+     * dependería de la densidad del grafo.
+     * @param weights Matriz de pesos (Integer.MAX_VALUE si no hay arista); se modifica su diagonal.
+     * @return Motor sin calcular; se debe llamar a compute().
+     */
+    static ShortestPaths forWeights(IntMatrix weights) {
+        int n = weights.size();
+        for (int i = 0; i < n; i++) {
+            if (weights.get(i, i) > 0) {
+                weights.set(i, i, 0);
+            }
+        }
+
+        long edges = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && weights.get(i, j) != Integer.MAX_VALUE) {
+                    edges++;
+                }
+            }
+        }
+
+        int logV = 32 - Integer.numberOfLeadingZeros(Math.max(n, 1));
+        if (edges * logV < (long) n * n) {
+            return new Johnson(CsrGraph.fromMatrix(weights));
+        }
+        return new Floyd(weights);
+    }
+}
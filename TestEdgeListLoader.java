@@ -0,0 +1,103 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para la carga de listas de aristas.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestEdgeListLoader {
+
+    private static Path write(String content) throws IOException {
+        Path file = Files.createTempFile("aristas", ".csv");
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void testLoadsCsvWithHeaderAndComments() throws IOException {
+        Path file = write("# red de ejemplo\norigen,destino,peso\nA,B,3\nA,D,7\n\nB,C,1\nC,D,2\n");
+        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(2);
+
+        EdgeListLoader.LoadReport report = EdgeListLoader.load(file, graph);
+
+        assertEquals(4, report.getEdges());
+        assertEquals(4, report.getVertices());
+        assertEquals(0, report.getErrors());
+        assertEquals("origen,destino,peso", report.getHeader());
+        assertEquals(3, graph.getEdge("A", "B"));
+        assertEquals(2, graph.getEdge("C", "D"));
+        assertNull(graph.getEdge("B", "A"));
+    }
+
+    @Test
+    public void testDetectsTabsAndReportsBadLines() throws IOException {
+        Path file = write("A\tB\t3\nA\tC\nB\tC\tx\nC\tA\t-4\nC\tA\t5\n");
+        IntGraphMatrix<String> graph = new IntGraphMatrix<>(4);
+
+        EdgeListLoader.LoadReport report = EdgeListLoader.load(file, graph);
+
+        assertEquals(2, report.getEdges());
+        assertEquals(3, report.getErrors());
+        assertEquals(3, report.getErrorMessages().size());
+        assertTrue(report.getErrorMessages().get(0).startsWith("Línea 2"));
+        assertEquals(3, graph.getEdge("A", "B"));
+        assertEquals(5, graph.getEdge("C", "A"));
+        assertFalse(graph.containsEdge("B", "C"));
+    }
+
+    @Test
+    public void testMalformedFirstLineIsNotTakenAsHeader() throws IOException {
+        for (String first : new String[] {"A,B,3.5", "A,B,x"}) {
+            IntGraphMatrix<String> graph = new IntGraphMatrix<>(4);
+
+            EdgeListLoader.LoadReport report = EdgeListLoader.load(write(first + "\nB,C,2\n"), graph);
+
+            assertNull(report.getHeader());
+            assertEquals(1, report.getEdges());
+            assertEquals(1, report.getErrors());
+            assertTrue(report.getErrorMessages().get(0).startsWith("Línea 1"));
+            assertFalse(graph.containsEdge("A", "B"));
+        }
+    }
+
+    @Test
+    public void testLoadedMatrixFeedsFloyd() throws IOException {
+        int[][] routes = TestFloyd.randomGraph(25, 0.15, 5);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < routes.length; i++) {
+            for (int j = 0; j < routes.length; j++) {
+                if (i != j && routes[i][j] != Integer.MAX_VALUE) {
+                    csv.append('S').append(i).append(';').append('S').append(j).append(';').append(routes[i][j]).append('\n');
+                }
+            }
+        }
+        IntGraphMatrix<String> graph = new IntGraphMatrix<>(1);
+        EdgeListLoader.load(write(csv.toString()), graph);
+        graph.compact();
+
+        Floyd expected = new Floyd(routes);
+        expected.compute();
+        Floyd loaded = new Floyd(graph.weightCopy());
+        loaded.compute();
+
+        for (int i = 0; i < routes.length; i++) {
+            for (int j = 0; j < routes.length; j++) {
+                if (i == j) continue;
+                int li = graph.getIndex("S" + i);
+                int lj = graph.getIndex("S" + j);
+                if (li < 0 || lj < 0) continue;
+                assertEquals(expected.getDistance(i, j), loaded.getDistance(li, lj));
+            }
+        }
+    }
+}
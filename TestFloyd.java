@@ -3,7 +3,7 @@
  *  @version 1.0
  *  Descripción: Pruebas unitarias para la clase Floyd.
  *  Fecha de creación: 21/05/2025
- *  Fecha de última modificación: 22/05/2025
+ *  Fecha de última modificación: 18/10/2026
  */
 
 import org.junit.jupiter.api.Test;
@@ -116,6 +116,410 @@ public class TestFloyd {
         
         assertEquals(2000000, floyd.getDistance(0, 2));
     }
-    
-   
+
+    @Test
+    public void testBlockedMatchesSequential() {
+        int[] blockSizes = {1, 3, 8, 64};
+        for (int blockSize : blockSizes) {
+            int[][] graph = randomGraph(37, 0.15, blockSize);
+
+            Floyd expected = new Floyd(graph);
+            expected.compute();
+            Floyd blocked = new Floyd(graph);
+            blocked.computeBlocked(blockSize);
+
+            assertSameDistances(expected, blocked, graph.length);
+            assertValidPaths(blocked, graph);
+        }
+    }
+
+    @Test
+    public void testBlockedRejectsInvalidBlockSize() {
+        Floyd floyd = new Floyd(new int[][] {{0}});
+        assertThrows(IllegalArgumentException.class, () -> floyd.computeBlocked(0));
+    }
+
+    @Test
+    public void testParallelMatchesSequentialExactly() {
+        int[][] graph = randomGraph(41, 0.2, 7);
+
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+        Floyd parallel = new Floyd(graph);
+        parallel.computeParallel(4);
+
+        assertSameDistances(expected, parallel, graph.length);
+        assertSamePaths(expected, parallel, graph.length);
+    }
+
+    @Test
+    public void testBlockedParallelMatchesBlockedExactly() {
+        int[][] graph = randomGraph(41, 0.2, 11);
+
+        Floyd expected = new Floyd(graph);
+        expected.computeBlocked(8);
+        Floyd parallel = new Floyd(graph);
+        parallel.computeBlockedParallel(8, 4);
+
+        assertSameDistances(expected, parallel, graph.length);
+        assertSamePaths(expected, parallel, graph.length);
+    }
+
+    @Test
+    public void testOffHeapStorageMatchesHeap() {
+        int[][] graph = randomGraph(30, 0.2, 3);
+        OffHeapIntMatrix offHeap = new OffHeapIntMatrix(graph.length);
+        for (int i = 0; i < graph.length; i++) {
+            for (int j = 0; j < graph.length; j++) {
+                offHeap.set(i, j, graph[i][j]);
+            }
+        }
+
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+        Floyd actual = new Floyd(offHeap);
+        actual.compute();
+
+        assertSameDistances(expected, actual, graph.length);
+        assertSamePaths(expected, actual, graph.length);
+        assertEquals(expected.findGraphCenter(names(graph.length)), actual.findGraphCenter(names(graph.length)));
+    }
+
+    @Test
+    public void testMatrixOwnershipWithoutCopy() {
+        int inf = Integer.MAX_VALUE;
+        int[] data = {
+            0, 4, inf,
+            inf, 0, 6,
+            inf, inf, 0
+        };
+        Floyd floyd = new Floyd(new HeapIntMatrix(3, data));
+        floyd.compute();
+
+        assertEquals(10, floyd.getDistance(0, 2));
+        assertEquals(10, data[2]);
+    }
+
+    @Test
+    public void testDecreaseEdgeMatchesFullRecompute() {
+        Random random = new Random(21);
+        for (int round = 0; round < 20; round++) {
+            int[][] graph = randomGraph(20, 0.1, round);
+            Floyd incremental = new Floyd(graph);
+            incremental.compute();
+
+            for (int change = 0; change < 10; change++) {
+                int u = random.nextInt(graph.length);
+                int v = random.nextInt(graph.length);
+                int w = 1 + random.nextInt(20);
+                if (u == v || graph[u][v] <= w) continue;
+                graph[u][v] = w;
+                incremental.decreaseEdge(u, v, w);
+            }
+
+            Floyd expected = new Floyd(graph);
+            expected.compute();
+            assertSameDistances(expected, incremental, graph.length);
+            assertValidPaths(incremental, graph);
+        }
+    }
+
+    @Test
+    public void testDecreaseEdgesBatchMatchesFullRecompute() {
+        Random random = new Random(22);
+        for (int round = 0; round < 20; round++) {
+            int[][] graph = randomGraph(20, 0.1, 100 + round);
+            Floyd incremental = new Floyd(graph);
+            incremental.compute();
+
+            int changes = 1 + random.nextInt(8);
+            int[] from = new int[changes];
+            int[] to = new int[changes];
+            int[] weights = new int[changes];
+            for (int e = 0; e < changes; e++) {
+                from[e] = random.nextInt(graph.length);
+                to[e] = random.nextInt(graph.length);
+                weights[e] = 1 + random.nextInt(20);
+                if (from[e] != to[e]) {
+                    graph[from[e]][to[e]] = Math.min(graph[from[e]][to[e]], weights[e]);
+                }
+            }
+            incremental.decreaseEdges(from, to, weights);
+
+            Floyd expected = new Floyd(graph);
+            expected.compute();
+            assertSameDistances(expected, incremental, graph.length);
+            assertValidPaths(incremental, graph);
+        }
+    }
+
+    @Test
+    public void testIncreaseAndRemoveEdgeMatchFullRecompute() {
+        Random random = new Random(23);
+        for (int round = 0; round < 20; round++) {
+            int[][] graph = randomGraph(20, 0.2, 200 + round);
+            HeapIntMatrix weights = HeapIntMatrix.copyOf(graph);
+            Floyd decremental = new Floyd(graph);
+            decremental.compute();
+
+            for (int change = 0; change < 10; change++) {
+                int u = random.nextInt(graph.length);
+                int v = random.nextInt(graph.length);
+                if (u == v || graph[u][v] == Integer.MAX_VALUE) continue;
+
+                int recomputed;
+                if (random.nextBoolean()) {
+                    graph[u][v] = Integer.MAX_VALUE;
+                    recomputed = decremental.removeEdge(u, v, weights);
+                } else {
+                    graph[u][v] += 1 + random.nextInt(20);
+                    weights.set(u, v, graph[u][v]);
+                    recomputed = decremental.increaseEdge(u, v, weights);
+                }
+                assertTrue(recomputed <= graph.length * graph.length);
+            }
+
+            Floyd expected = new Floyd(graph);
+            expected.compute();
+            assertSameDistances(expected, decremental, graph.length);
+            assertValidPaths(decremental, graph);
+        }
+    }
+
+    @Test
+    public void testRemoveEdgeRecomputesOnlyAffectedPairs() {
+        int inf = Integer.MAX_VALUE;
+        int[][] graph = {
+            {0, 1, inf, inf},
+            {inf, 0, 1, inf},
+            {inf, inf, 0, inf},
+            {inf, inf, inf, 0}
+        };
+        HeapIntMatrix weights = HeapIntMatrix.copyOf(graph);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        assertEquals(2, floyd.removeEdge(1, 2, weights));
+        assertEquals(inf, floyd.getDistance(0, 2));
+        assertEquals(1, floyd.getDistance(0, 1));
+        assertNull(floyd.getPath(1, 2));
+        assertEquals(0, floyd.removeEdge(2, 3, weights));
+    }
+
+    @Test
+    public void testVectorizedMatchesSequentialExactly() {
+        int[][] graph = randomGraph(45, 0.2, 13);
+        graph[0][1] = Integer.MAX_VALUE - 10;
+        graph[1][2] = 5;
+        graph[2][3] = Integer.MAX_VALUE - 1;
+
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+        Floyd vectorized = new Floyd(graph);
+        vectorized.computeVectorized();
+
+        assertSameDistances(expected, vectorized, graph.length);
+        assertSamePaths(expected, vectorized, graph.length);
+    }
+
+    @Test
+    public void testScalarKernelMatchesBestKernel() {
+        int[][] graph = randomGraph(33, 0.3, 17);
+        HeapIntMatrix scalarDist = HeapIntMatrix.copyOf(graph);
+        HeapIntMatrix bestDist = HeapIntMatrix.copyOf(graph);
+        int[] scalarNext = new int[33 * 33];
+        int[] bestNext = new int[33 * 33];
+
+        RowKernel scalar = new RowKernel.Scalar();
+        for (int k = 0; k < 33; k++) {
+            for (int i = 0; i < 33; i++) {
+                int dik = scalarDist.get(i, k);
+                if (dik == Integer.MAX_VALUE) continue;
+                scalar.relaxRow(scalarDist.array(), scalarNext, i * 33, k * 33, dik, k, 0, 33);
+                RowKernel.best().relaxRow(bestDist.array(), bestNext, i * 33, k * 33, dik, k, 0, 33);
+            }
+        }
+
+        assertArrayEquals(scalarDist.array(), bestDist.array());
+        assertArrayEquals(scalarNext, bestNext);
+    }
+
+    @Test
+    public void testBatchQueriesMatchSingleQueries() {
+        int n = 40;
+        int[][] graph = randomGraph(n, 0.08, 21);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        int count = n * n;
+        int[] origins = new int[count];
+        int[] destinations = new int[count];
+        for (int q = 0; q < count; q++) {
+            origins[q] = q / n;
+            destinations[q] = q % n;
+        }
+
+        int[] distances = new int[count];
+        int[] parallelDistances = new int[count];
+        floyd.getDistances(origins, destinations, distances);
+        floyd.getDistances(origins, destinations, parallelDistances, 3);
+
+        int[] offsets = new int[count + 1];
+        int[] parallelOffsets = new int[count + 1];
+        int[] buffer = new int[count * n];
+        int[] parallelBuffer = new int[count * n];
+        int written = floyd.getPaths(origins, destinations, offsets, buffer);
+        assertEquals(written, floyd.getPaths(origins, destinations, parallelOffsets, parallelBuffer, 3));
+        assertArrayEquals(offsets, parallelOffsets);
+        assertArrayEquals(buffer, parallelBuffer);
+
+        for (int q = 0; q < count; q++) {
+            assertEquals(floyd.getDistance(origins[q], destinations[q]), distances[q]);
+            assertEquals(distances[q], parallelDistances[q]);
+
+            List<Integer> path = floyd.getPath(origins[q], destinations[q]);
+            int length = offsets[q + 1] - offsets[q];
+            assertEquals(path == null ? 0 : path.size(), length);
+            for (int h = 0; h < length; h++) {
+                assertEquals(path.get(h), buffer[offsets[q] + h]);
+            }
+        }
+    }
+
+    @Test
+    public void testBatchPathsRejectSmallBuffer() {
+        Floyd floyd = new Floyd(randomGraph(10, 0.5, 4));
+        floyd.compute();
+        int[] origins = {0, 1};
+        int[] destinations = {9, 8};
+        int needed = floyd.pathLength(0, 9) + floyd.pathLength(1, 8);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> floyd.getPaths(origins, destinations, new int[3], new int[needed - 1]));
+        assertEquals(needed, floyd.getPaths(origins, destinations, new int[3], new int[needed]));
+    }
+
+    @Test
+    public void testCompressedPathsMatchFullPaths() {
+        for (int n : new int[] {40, 300}) {
+            int[][] graph = randomGraph(n, 0.03, n);
+            Floyd expected = new Floyd(graph);
+            expected.compute();
+
+            Floyd compressed = new Floyd(graph);
+            compressed.compute();
+            assertTrue(compressed.compressPaths());
+            assertEquals(n <= 255 ? 1 : 2, ((NarrowIntMatrix) compressed.successors()).bytesPerCell());
+
+            assertSameDistances(expected, compressed, n);
+            assertSamePaths(expected, compressed, n);
+        }
+    }
+
+    @Test
+    public void testCompressedPathsSurviveComputeAndUpdates() {
+        int[][] graph = randomGraph(50, 0.08, 12);
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+        expected.decreaseEdge(3, 40, 1);
+
+        Floyd compressed = new Floyd(graph);
+        assertTrue(compressed.compressPaths());
+        compressed.computeBlocked(16);
+        compressed.decreaseEdge(3, 40, 1);
+
+        graph[3][40] = 1;
+        assertSameDistances(expected, compressed, 50);
+        assertValidPaths(compressed, graph);
+    }
+
+    @Test
+    public void testNarrowMatrixFitsOnlyAddressableSizes() {
+        assertTrue(NarrowIntMatrix.fits(46340));
+        assertFalse(NarrowIntMatrix.fits(46341));
+        assertFalse(NarrowIntMatrix.fits(0xFFFF));
+        assertThrows(IllegalArgumentException.class, () -> NarrowIntMatrix.forIndices(46341));
+
+        // Matrices vacías del tamaño indicado: solo se consulta size(), no se reserva memoria.
+        IntMatrix huge = new IntMatrix() {
+            public int size() { return 46341; }
+            public int get(int i, int j) { return -1; }
+            public void set(int i, int j, int value) { }
+            public IntMatrix allocate(int size) { throw new UnsupportedOperationException(); }
+        };
+        assertFalse(new Floyd(huge, huge).compressPaths());
+    }
+
+    /**
+     * Genera una matriz de adyacencia aleatoria con pesos positivos.
+     */
+    static int[][] randomGraph(int n, double density, long seed) {
+        Random random = new Random(seed);
+        int[][] graph = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    graph[i][j] = 0;
+                } else if (random.nextDouble() < density) {
+                    graph[i][j] = 1 + random.nextInt(20);
+                } else {
+                    graph[i][j] = Integer.MAX_VALUE;
+                }
+            }
+        }
+        return graph;
+    }
+
+    static String[] names(int n) {
+        String[] names = new String[n];
+        for (int i = 0; i < n; i++) {
+            names[i] = "V" + i;
+        }
+        return names;
+    }
+
+    static void assertSameDistances(Floyd expected, Floyd actual, int n) {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(expected.getDistance(i, j), actual.getDistance(i, j), "distancia " + i + "->" + j);
+            }
+        }
+    }
+
+    static void assertSamePaths(Floyd expected, Floyd actual, int n) {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(expected.getPath(i, j), actual.getPath(i, j), "camino " + i + "->" + j);
+            }
+        }
+    }
+
+    /**
+     * Verifica que cada camino devuelto exista en el grafo y que su costo sea la distancia reportada.
+     */
+    static void assertValidPaths(Floyd floyd, int[][] graph) {
+        int n = graph.length;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                List<Integer> path = floyd.getPath(i, j);
+                if (floyd.getDistance(i, j) == Integer.MAX_VALUE) {
+                    assertNull(path);
+                    continue;
+                }
+                assertNotNull(path);
+                assertEquals(i, path.get(0));
+                assertEquals(j, path.get(path.size() - 1));
+
+                int cost = 0;
+                for (int h = 0; h + 1 < path.size(); h++) {
+                    int w = graph[path.get(h)][path.get(h + 1)];
+                    assertNotEquals(Integer.MAX_VALUE, w);
+                    cost += w;
+                }
+                if (i != j) {
+                    assertEquals(floyd.getDistance(i, j), cost, "costo del camino " + i + "->" + j);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el puente entre el grafo y Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFloydBridge {
+
+    private static GraphMatrixDirected<String, Integer> sampleGraph() {
+        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(2);
+        for (String name : new String[] {"A", "B", "C", "D", "E"}) {
+            graph.addVertex(name);
+        }
+        graph.addEdge("A", "B", 3);
+        graph.addEdge("A", "D", 7);
+        graph.addEdge("B", "C", 1);
+        graph.addEdge("B", "E", 8);
+        graph.addEdge("C", "D", 2);
+        graph.addEdge("D", "E", 3);
+        graph.addEdge("E", "A", 4);
+        graph.addEdge("E", "E", 5);
+        return graph;
+    }
+
+    @Test
+    public void testExportFollowsVertexIndexWithoutHoles() {
+        GraphMatrixDirected<String, Integer> graph = sampleGraph();
+        graph.removeVertex("B");
+        graph.addVertex("F");
+        graph.addEdge("A", "F", 1);
+        graph.addEdge("F", "C", 1);
+
+        FloydBridge<String> bridge = FloydBridge.fromGraph(graph, Integer::intValue);
+
+        assertEquals(5, bridge.size());
+        for (int i = 0; i < bridge.size(); i++) {
+            String label = bridge.label(i);
+            assertEquals(i, bridge.indexOf(label));
+            if (i > 0) {
+                assertTrue(graph.getIndex(bridge.label(i - 1)) < graph.getIndex(label));
+            }
+        }
+        assertEquals(LabelIndex.ABSENT, bridge.indexOf("B"));
+        assertFalse(bridge.isComputed());
+        assertEquals(2, bridge.getDistance(bridge.indexOf("A"), bridge.indexOf("C")));
+        assertEquals(0, bridge.floyd().getDistance(bridge.indexOf("E"), bridge.indexOf("E")));
+    }
+
+    @Test
+    public void testLazyAnswersMatchFloyd() {
+        FloydBridge<String> bridge = FloydBridge.fromGraph(sampleGraph(), Integer::intValue);
+        int n = bridge.size();
+        int[][] before = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                before[i][j] = bridge.getDistance(i, j);
+            }
+        }
+        assertEquals(4, bridge.getPath(bridge.indexOf("A"), bridge.indexOf("D")).size());
+        assertFalse(bridge.isComputed());
+
+        Floyd floyd = bridge.floyd();
+        assertTrue(bridge.isComputed());
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertEquals(floyd.getDistance(i, j), before[i][j]);
+                assertEquals(floyd.getPath(i, j), bridge.getPath(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testBackgroundComputeAndPrecomputedResult() {
+        FloydBridge<String> bridge = FloydBridge.fromGraph(sampleGraph(), Integer::intValue);
+        bridge.startInBackground();
+        Floyd floyd = bridge.floyd();
+        assertSame(floyd, bridge.floyd());
+        assertTrue(bridge.isComputed());
+
+        FloydBridge<String> wrapped = FloydBridge.of(floyd, new String[] {"A", "B", "C", "D", "E"});
+        assertTrue(wrapped.isComputed());
+        assertEquals(9, wrapped.getDistance(wrapped.indexOf("A"), wrapped.indexOf("E")));
+        assertThrows(IllegalArgumentException.class, () -> FloydBridge.of(floyd, new String[] {"A"}));
+    }
+}
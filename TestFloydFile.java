@@ -0,0 +1,85 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para la clase FloydFile.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class TestFloydFile {
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        int[][] graph = TestFloyd.randomGraph(25, 0.2, 5);
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+        String[] names = TestFloyd.names(graph.length);
+        names[0] = "Cobán";
+
+        Path file = Files.createTempFile("floyd", ".bin");
+        try {
+            FloydFile.save(expected, names, file);
+            FloydFile loaded = FloydFile.load(file);
+
+            assertArrayEquals(names, loaded.getVertexNames());
+            TestFloyd.assertSameDistances(expected, loaded.getFloyd(), graph.length);
+            TestFloyd.assertSamePaths(expected, loaded.getFloyd(), graph.length);
+            assertEquals(expected.findGraphCenter(names), loaded.getFloyd().findGraphCenter(names));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testCorruptedFileIsRejected() throws IOException {
+        int[][] graph = TestFloyd.randomGraph(10, 0.3, 9);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        Path file = Files.createTempFile("floyd", ".bin");
+        try {
+            FloydFile.save(floyd, TestFloyd.names(graph.length), file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] {42}), channel.size() - 1);
+            }
+
+            assertThrows(IOException.class, () -> FloydFile.load(file));
+            assertNotNull(FloydFile.load(file, false).getFloyd());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testInvalidHeaderFieldsAreRejected() throws IOException {
+        int[][] graph = TestFloyd.randomGraph(6, 0.3, 2);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        Path file = Files.createTempFile("floyd", ".bin");
+        try {
+            // Offsets de la cabecera: V en el byte 8 y la longitud de la tabla de nombres en el byte 20.
+            for (int[] field : new int[][] {{8, -1}, {8, Integer.MAX_VALUE}, {20, -5}, {20, Integer.MAX_VALUE}}) {
+                FloydFile.save(floyd, TestFloyd.names(graph.length), file);
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    ByteBuffer value = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(field[1]);
+                    value.flip();
+                    channel.write(value, field[0]);
+                }
+                assertThrows(IOException.class, () -> FloydFile.load(file, false));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
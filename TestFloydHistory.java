@@ -0,0 +1,91 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el historial de generaciones de Floyd.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFloydHistory {
+
+    @Test
+    public void testUnchangedBlocksAreShared() {
+        int n = 64;
+        int[][] graph = TestFloyd.randomGraph(n, 0.05, 3);
+        for (int i = 0; i < n; i++) {
+            if (i != 3) graph[i][3] = Integer.MAX_VALUE;
+        }
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        FloydHistory history = new FloydHistory(8, 10);
+        FloydHistory.Generation first = history.commit(floyd);
+        long full = history.getRetainedBytes();
+        assertEquals(2L * n * n * Integer.BYTES, full);
+
+        history.commit(floyd);
+        assertEquals(full, history.getRetainedBytes());
+        assertEquals(0, history.diff(1, 2).size());
+        assertEquals(0, history.diff(1, 2).getChangedBlocks());
+
+        // Nadie llega al vértice 3, así que una arista nueva que sale de él solo cambia su fila.
+        floyd.decreaseEdge(3, 40, 1);
+        FloydHistory.Generation third = history.commit(floyd);
+        FloydHistory.Diff diff = history.diff(first.getVersion(), third.getVersion());
+        assertTrue(diff.size() > 0);
+        assertEquals(1, diff.getChangedBlocks());
+        assertEquals(history.getRetainedBytes() - full,
+                (long) diff.getChangedBlocks() * 2 * 8 * n * Integer.BYTES);
+
+        for (int k = 0; k < diff.size(); k++) {
+            int i = diff.origin(k);
+            int j = diff.destination(k);
+            assertEquals(first.getDistance(i, j), diff.before(k));
+            assertEquals(third.getDistance(i, j), diff.after(k));
+            assertEquals(floyd.getDistance(i, j), diff.after(k));
+        }
+        assertEquals(floyd.getPath(3, 40), third.getPath(3, 40));
+    }
+
+    @Test
+    public void testRollbackAndRestore() {
+        int n = 20;
+        int[][] graph = TestFloyd.randomGraph(n, 0.1, 9);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+        Floyd original = new Floyd(graph);
+        original.compute();
+
+        FloydHistory history = new FloydHistory(4, 10);
+        long before = history.commit(floyd).getVersion();
+        floyd.decreaseEdge(0, n - 1, 0);
+        history.commit(floyd);
+
+        FloydHistory.Generation rolledBack = history.rollback(before);
+        assertEquals(0, history.diff(before, rolledBack.getVersion()).size());
+        assertEquals(0, history.diff(before, rolledBack.getVersion()).getChangedBlocks());
+
+        Floyd restored = rolledBack.restore();
+        TestFloyd.assertSameDistances(original, restored, n);
+        TestFloyd.assertSamePaths(original, restored, n);
+    }
+
+    @Test
+    public void testRetentionEvictsOldestGenerations() {
+        int[][] graph = TestFloyd.randomGraph(10, 0.3, 1);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+
+        FloydHistory history = new FloydHistory(3, 2);
+        history.commit(floyd);
+        history.commit(floyd);
+        history.commit(floyd);
+
+        assertEquals(java.util.Arrays.asList(2L, 3L), history.versions());
+        assertEquals(3, history.latest().getVersion());
+        assertThrows(IllegalArgumentException.class, () -> history.get(1));
+    }
+}
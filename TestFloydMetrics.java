@@ -0,0 +1,80 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para las métricas de Floyd publicadas por JMX.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestFloydMetrics {
+    private MBeanServer server;
+    private ObjectName name;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = ManagementFactory.getPlatformMBeanServer();
+        name = FloydMetrics.register();
+        server.invoke(name, "reset", null, null);
+    }
+
+    private long attribute(String attribute) throws Exception {
+        return (Long) server.getAttribute(name, attribute);
+    }
+
+    @Test
+    public void testRecordedEventsAreVisibleThroughMBean() throws Exception {
+        long start = System.nanoTime() - 1000;
+        FloydMetrics.recordStep(7);
+        FloydMetrics.recordStep(3);
+        FloydMetrics.recordCompute("compute", 10, 10, start);
+        FloydMetrics.recordPhase(FloydMetrics.PHASE_PANELS, start);
+        FloydMetrics.recordDistance(start);
+        FloydMetrics.recordPath(0, 3, 4, start);
+        FloydMetrics.recordPath(0, 1, 2, start);
+
+        assertEquals(1, attribute("ComputeCount"));
+        assertTrue(attribute("ComputeNanosMax") >= 1000);
+        assertEquals(10, attribute("Relaxations"));
+        assertEquals(7, attribute("StepRelaxationsMax"));
+        assertEquals(0, attribute("DiagonalPhaseNanos"));
+        assertTrue(attribute("PanelPhaseNanos") >= 1000);
+        assertEquals(1, attribute("DistanceQueries"));
+        assertEquals(2, attribute("PathQueries"));
+        assertEquals(4, attribute("PathLengthMax"));
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0, attribute("ComputeCount"));
+        assertEquals(0, attribute("PathQueries"));
+        assertEquals(0, attribute("PanelPhaseNanos"));
+    }
+
+    @Test
+    public void testFloydHooksFollowMetricsProperty() throws Exception {
+        int[][] graph = TestFloyd.randomGraph(40, 0.2, 3);
+
+        Floyd floyd = new Floyd(HeapIntMatrix.copyOf(graph));
+        floyd.compute();
+        Floyd blocked = new Floyd(HeapIntMatrix.copyOf(graph));
+        blocked.computeBlocked(8);
+        floyd.getDistance(0, 39);
+        floyd.getPath(0, 39);
+        floyd.getPath(5, 6);
+
+        // Sin -Dfloyd.metrics=true los ganchos no registran nada.
+        long expected = FloydMetrics.ENABLED ? 1 : 0;
+        assertEquals(2 * expected, attribute("ComputeCount"));
+        assertEquals(expected, attribute("DistanceQueries"));
+        assertEquals(2 * expected, attribute("PathQueries"));
+        assertEquals(FloydMetrics.ENABLED, attribute("Relaxations") > 0);
+        assertEquals(FloydMetrics.ENABLED, attribute("DiagonalPhaseNanos") > 0);
+        assertEquals(FloydMetrics.ENABLED, attribute("PanelPhaseNanos") > 0);
+        assertEquals(FloydMetrics.ENABLED, attribute("RemainderPhaseNanos") > 0);
+    }
+}
@@ -3,11 +3,13 @@
  *  @version 1.0
  *  Descripción: Pruebas unitarias para la implementación del grafo.
  *  Fecha de creación: 21/05/2025
- *  Fecha de última modificación: 22/05/2025
+ *  Fecha de última modificación: 18/10/2026
  */
 
 import org.junit.jupiter.api.*;
 import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 public class TestGraph {
     private GraphMatrixDirected<String, Integer> graph;
@@ -60,4 +62,255 @@ public class TestGraph {
         assertEquals(5, graph.removeEdge("A", "B"));
         assertNull(graph.getEdge("A", "B"));
     }
+
+    @Test
+    void testAddVertexGrowsCapacity() {
+        for (int i = 0; i < 12; i++) {
+            graph.addVertex("V" + i);
+        }
+        graph.addEdge("V0", "V11", 7);
+
+        assertEquals(12, graph.vertices().size());
+        assertTrue(graph.capacity() >= 12);
+        assertEquals(7, graph.getEdge("V0", "V11"));
+    }
+
+    @Test
+    void testCompactRenumbersDensely() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addVertex("D");
+        graph.addEdge("A", "D", 4);
+        graph.addEdge("D", "A", 1);
+        graph.removeVertex("B");
+
+        graph.compact();
+
+        assertEquals(3, graph.capacity());
+        assertEquals(0, graph.getIndex("A"));
+        assertEquals(1, graph.getIndex("C"));
+        assertEquals(2, graph.getIndex("D"));
+        assertEquals(4, graph.getEdge("A", "D"));
+        assertEquals(1, graph.getEdge("D", "A"));
+        assertFalse(graph.containsEdge("A", "C"));
+
+        graph.addVertex("E");
+        assertEquals(3, graph.getIndex("E"));
+    }
+
+    @Test
+    void testIntGraphMatrixEdges() {
+        IntGraphMatrix<String> ints = new IntGraphMatrix<>(3);
+        ints.addVertex("A");
+        ints.addVertex("B");
+        ints.addEdge("A", "B", 5);
+
+        assertTrue(ints.containsEdge("A", "B"));
+        assertEquals(5, ints.getEdge("A", "B"));
+        assertEquals(IntGraphMatrix.NO_EDGE, ints.getEdge("B", "A"));
+        assertEquals(5, ints.removeEdge("A", "B"));
+        assertFalse(ints.containsEdge("A", "B"));
+    }
+
+    @Test
+    void testIntGraphMatrixRemoveVertexReusesSlot() {
+        IntGraphMatrix<String> ints = new IntGraphMatrix<>(2);
+        ints.addVertex("A");
+        ints.addVertex("B");
+        ints.addEdge("A", "B", 1);
+        int index = ints.getIndex("B");
+
+        assertEquals("B", ints.removeVertex("B"));
+        assertFalse(ints.contains("B"));
+        ints.addVertex("C");
+
+        assertEquals(index, ints.getIndex("C"));
+        assertFalse(ints.containsEdge("A", "C"));
+        assertEquals(2, ints.vertices().size());
+    }
+
+    @Test
+    void testIntGraphMatrixRejectsNullLabelWithoutLosingSlot() {
+        IntGraphMatrix<String> ints = new IntGraphMatrix<>(2);
+        assertThrows(IllegalArgumentException.class, () -> ints.addVertex(null));
+        ints.addVertex("A");
+        ints.addVertex("B");
+
+        assertEquals(2, ints.capacity());
+        assertEquals(0, ints.getIndex("A"));
+        assertEquals(1, ints.getIndex("B"));
+    }
+
+    @Test
+    void testIntGraphMatrixFeedsFloydWithoutChangingGraph() {
+        IntGraphMatrix<String> ints = new IntGraphMatrix<>(4);
+        ints.addVertex("A");
+        ints.addVertex("B");
+        ints.addVertex("C");
+        ints.addEdge("A", "B", 2);
+        ints.addEdge("B", "C", 3);
+        ints.addEdge("C", "A", 4);
+
+        Floyd floyd = new Floyd(ints.floydWeights());
+        floyd.compute();
+
+        assertEquals(5, floyd.getDistance(ints.getIndex("A"), ints.getIndex("C")));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, floyd.getDistance(i, i));
+        }
+        assertEquals(Integer.MAX_VALUE, floyd.getDistance(3, 3));
+        assertEquals(IntGraphMatrix.NO_EDGE, ints.getEdge("A", "C"));
+        assertEquals(IntGraphMatrix.NO_EDGE, ints.getEdge("A", "A"));
+        assertEquals(2, ints.getEdge("A", "B"));
+    }
+
+    @Test
+    void testIntGraphMatrixGrowsAndCompacts() {
+        IntGraphMatrix<String> ints = new IntGraphMatrix<>(1);
+        ints.addVertex("A");
+        ints.addVertex("B");
+        ints.addVertex("C");
+        ints.addEdge("A", "C", 9);
+        ints.removeVertex("B");
+
+        ints.compact();
+
+        assertEquals(2, ints.capacity());
+        assertEquals(1, ints.getIndex("C"));
+        assertEquals("C", ints.label(1));
+        assertEquals(9, ints.getEdge("A", "C"));
+        assertEquals(9, ints.weightCopy().get(0, 1));
+    }
+
+    @Test
+    void testLabelIndexRemoveKeepsOtherKeys() {
+        LabelIndex<String> index = new LabelIndex<>(4);
+        for (int i = 0; i < 100; i++) {
+            index.put("v" + i, i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, index.remove("v" + i));
+        }
+
+        assertEquals(50, index.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? LabelIndex.ABSENT : i, index.get("v" + i));
+        }
+    }
+
+    @Test
+    void testConcurrentGraphMatrixSnapshotFeedsFloyd() {
+        ConcurrentGraphMatrix<String, Integer> concurrent = new ConcurrentGraphMatrix<>(4, 2);
+        concurrent.addVertex("A");
+        concurrent.addVertex("B");
+        concurrent.addVertex("C");
+        concurrent.addVertex("A");
+        concurrent.addEdge("A", "B", 2);
+        concurrent.addEdge("B", "C", 3);
+        concurrent.addEdge("A", "Z", 1);
+
+        assertEquals(3, concurrent.vertices().size());
+        assertEquals(2, concurrent.getIndex("C"));
+        assertEquals(3, concurrent.getEdge("B", "C"));
+        assertNull(concurrent.getEdge("A", "Z"));
+
+        ConcurrentGraphMatrix.Snapshot<String> snapshot = concurrent.snapshot(Integer::intValue);
+        Floyd floyd = new Floyd(snapshot.getWeights());
+        floyd.compute();
+        assertEquals(5, floyd.getDistance(0, 2));
+        assertEquals("C", snapshot.label(2));
+        assertNull(snapshot.label(3));
+
+        assertEquals("B", concurrent.removeVertex("B"));
+        assertFalse(concurrent.containsEdge("A", "B"));
+        concurrent.addVertex("D");
+        concurrent.addVertex("E");
+        assertEquals(1, concurrent.getIndex("D"));
+        assertFalse(concurrent.containsEdge("D", "C"));
+        assertThrows(IllegalStateException.class, () -> concurrent.addVertex("F"));
+    }
+
+    @Test
+    void testConcurrentGraphMatrixWritersAndSnapshots() throws Exception {
+        int n = 32;
+        ConcurrentGraphMatrix<Integer, Integer> concurrent = new ConcurrentGraphMatrix<>(n, 4);
+        for (int i = 0; i < n; i++) {
+            concurrent.addVertex(i);
+        }
+
+        // Cada escritor usa dos filas de franjas distintas: añade la arista de la primera antes que la de
+        // la segunda y las quita en orden inverso, así que una copia consistente nunca ve solo la segunda.
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int row = 2 * t;
+            writers.add(executor.submit(() -> {
+                for (int round = 0; round < 2000; round++) {
+                    if (round % 2 == 0) {
+                        concurrent.addEdge(row, 10, round);
+                        concurrent.addEdge(row + 1, 11, round);
+                    } else {
+                        concurrent.removeEdge(row + 1, 11);
+                        concurrent.removeEdge(row, 10);
+                    }
+                }
+            }));
+        }
+
+        for (int s = 0; s < 200; s++) {
+            HeapIntMatrix weights = concurrent.snapshot(Integer::intValue).getWeights();
+            for (int row = 0; row < 8; row += 2) {
+                boolean first = weights.get(row, 10) != Integer.MAX_VALUE;
+                boolean second = weights.get(row + 1, 11) != Integer.MAX_VALUE;
+                assertFalse(second && !first);
+                assertEquals(0, weights.get(row, row));
+            }
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+        assertEquals(n, concurrent.vertices().size());
+    }
+
+    @Test
+    void testConcurrentGraphMatrixRemoveVertexIsAtomicForSnapshots() throws Exception {
+        ConcurrentGraphMatrix<Integer, Integer> concurrent = new ConcurrentGraphMatrix<>(8, 2);
+        for (int i = 0; i < 8; i++) {
+            concurrent.addVertex(i);
+        }
+        concurrent.addEdge(0, 5, 1);
+        concurrent.addEdge(5, 3, 1);
+
+        // Mientras una copia tiene todas las franjas, otro hilo intenta quitar el vértice 5 y queda
+        // esperando. Una segunda copia tomada en ese momento (las franjas son reentrantes) debe ver
+        // el vértice completo: con nombre, con sus aristas y con la diagonal en 0.
+        Thread remover = new Thread(() -> concurrent.removeVertex(5));
+        List<ConcurrentGraphMatrix.Snapshot<Integer>> inner = new ArrayList<>();
+        concurrent.snapshot(weight -> {
+            if (inner.isEmpty()) {
+                remover.start();
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (remover.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                    Thread.onSpinWait();
+                }
+                inner.add(concurrent.snapshot(Integer::intValue));
+            }
+            return weight;
+        });
+        remover.join();
+
+        ConcurrentGraphMatrix.Snapshot<Integer> during = inner.get(0);
+        assertEquals(5, during.label(5));
+        assertEquals(0, during.getWeights().get(5, 5));
+        assertEquals(1, during.getWeights().get(0, 5));
+        assertEquals(1, during.getWeights().get(5, 3));
+
+        ConcurrentGraphMatrix.Snapshot<Integer> after = concurrent.snapshot(Integer::intValue);
+        assertNull(after.label(5));
+        assertEquals(Integer.MAX_VALUE, after.getWeights().get(5, 5));
+        assertEquals(Integer.MAX_VALUE, after.getWeights().get(0, 5));
+        assertFalse(concurrent.contains(5));
+    }
 }
\ No newline at end of file
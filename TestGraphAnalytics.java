@@ -0,0 +1,123 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para las métricas de centralidad.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class TestGraphAnalytics {
+
+    @Test
+    public void testCenterMatchesFloyd() {
+        for (long seed = 0; seed < 5; seed++) {
+            int[][] graph = TestFloyd.randomGraph(35, 0.06, seed);
+            String[] names = TestFloyd.names(35);
+            Floyd floyd = new Floyd(graph);
+            floyd.compute();
+
+            GraphAnalytics analytics = new GraphAnalytics(floyd, 3);
+            assertEquals(floyd.findGraphCenter(names), analytics.getCenterName(names));
+        }
+    }
+
+    @Test
+    public void testEccentricityRadiusAndDiameter() {
+        int n = 30;
+        Floyd floyd = new Floyd(TestFloyd.randomGraph(n, 0.1, 6));
+        floyd.compute();
+        GraphAnalytics analytics = new GraphAnalytics(floyd, 2);
+
+        int radius = Integer.MAX_VALUE;
+        int diameter = -1;
+        for (int i = 0; i < n; i++) {
+            int eccentricity = -1;
+            for (int j = 0; j < n; j++) {
+                int d = floyd.getDistance(i, j);
+                if (i != j && d != Integer.MAX_VALUE) eccentricity = Math.max(eccentricity, d);
+            }
+            if (eccentricity < 0) eccentricity = Integer.MAX_VALUE;
+            assertEquals(eccentricity, analytics.getEccentricity(i));
+            if (eccentricity != Integer.MAX_VALUE) {
+                radius = Math.min(radius, eccentricity);
+                diameter = Math.max(diameter, eccentricity);
+            }
+        }
+
+        assertEquals(radius, analytics.getRadius());
+        assertEquals(diameter, analytics.getDiameter());
+        for (int c : analytics.getCenter()) assertEquals(radius, analytics.getEccentricity(c));
+        for (int p : analytics.getPeriphery()) assertEquals(diameter, analytics.getEccentricity(p));
+    }
+
+    @Test
+    public void testTopByClosenessIsSorted() {
+        int n = 25;
+        Floyd floyd = new Floyd(TestFloyd.randomGraph(n, 0.15, 3));
+        floyd.compute();
+        GraphAnalytics analytics = new GraphAnalytics(floyd, 2);
+
+        int[] top = analytics.topByCloseness(5);
+        assertEquals(5, top.length);
+        for (int r = 1; r < top.length; r++) {
+            assertTrue(analytics.getCloseness(top[r - 1]) >= analytics.getCloseness(top[r]));
+        }
+        Set<Integer> inTop = new HashSet<>();
+        for (int t : top) inTop.add(t);
+        for (int i = 0; i < n; i++) {
+            if (!inTop.contains(i)) {
+                assertTrue(analytics.getCloseness(i) <= analytics.getCloseness(top[4]));
+            }
+        }
+    }
+
+    @Test
+    public void testBetweennessMatchesPathWalk() {
+        int n = 40;
+        Floyd floyd = new Floyd(TestFloyd.randomGraph(n, 0.05, 9));
+        floyd.compute();
+
+        long[] expected = new long[n];
+        for (int s = 0; s < n; s++) {
+            for (int t = 0; t < n; t++) {
+                List<Integer> path = floyd.getPath(s, t);
+                if (s == t || path == null) continue;
+                for (int h = 1; h < path.size() - 1; h++) {
+                    expected[path.get(h)]++;
+                }
+            }
+        }
+
+        GraphAnalytics analytics = new GraphAnalytics(floyd, 3);
+        long[] betweenness = analytics.getBetweenness();
+        for (int x = 0; x < n; x++) {
+            assertEquals(expected[x], betweenness[x]);
+        }
+
+        Arrays.fill(betweenness, -1);
+        long[] again = analytics.getBetweenness();
+        for (int x = 0; x < n; x++) {
+            assertEquals(expected[x], again[x]);
+        }
+    }
+
+    @Test
+    public void testZeroDistanceReachIsMostCentral() {
+        int inf = Integer.MAX_VALUE;
+        Floyd floyd = new Floyd(new int[][] {
+            {0,   0,   0},
+            {inf, 0,   3},
+            {inf, inf, 0}
+        });
+        floyd.compute();
+        GraphAnalytics analytics = new GraphAnalytics(floyd, 1);
+
+        assertEquals(Double.POSITIVE_INFINITY, analytics.getCloseness(0));
+        assertEquals(0.0, analytics.getCloseness(2));
+        assertEquals(0, analytics.topByCloseness(1)[0]);
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el motor disperso (CSR + Johnson).
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class TestJohnson {
+
+    @Test
+    public void testMatchesFloyd() {
+        for (int seed = 0; seed < 5; seed++) {
+            int[][] graph = TestFloyd.randomGraph(40, 0.08, seed);
+            Floyd floyd = new Floyd(graph);
+            floyd.compute();
+            Johnson johnson = new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)));
+            johnson.compute();
+
+            for (int i = 0; i < graph.length; i++) {
+                for (int j = 0; j < graph.length; j++) {
+                    assertEquals(floyd.getDistance(i, j), johnson.getDistance(i, j));
+                }
+            }
+            String[] names = TestFloyd.names(graph.length);
+            assertEquals(floyd.findGraphCenter(names), johnson.findGraphCenter(names));
+        }
+    }
+
+    @Test
+    public void testNegativeWeights() {
+        Random random = new Random(4);
+        int n = 25;
+        int[][] graph = TestFloyd.randomGraph(n, 0.15, 4);
+        int[] potential = new int[n];
+        for (int i = 0; i < n; i++) {
+            potential[i] = random.nextInt(30);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && graph[i][j] != Integer.MAX_VALUE) {
+                    graph[i][j] += potential[i] - potential[j];
+                }
+            }
+        }
+
+        Johnson johnson = new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)));
+        johnson.compute();
+
+        for (int s = 0; s < n; s++) {
+            long[] expected = bellmanFord(graph, s);
+            for (int t = 0; t < n; t++) {
+                long actual = johnson.getDistance(s, t);
+                assertEquals(expected[t] == Long.MAX_VALUE ? Integer.MAX_VALUE : expected[t], actual);
+                List<Integer> path = johnson.getPath(s, t);
+                if (s != t && path != null) {
+                    long cost = 0;
+                    for (int h = 0; h + 1 < path.size(); h++) {
+                        cost += graph[path.get(h)][path.get(h + 1)];
+                    }
+                    assertEquals(expected[t], cost);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPathThroughVertexBeyondIntRange() {
+        // 3 -> 2 -> 1 -> 0: la distancia a 1 no cabe en un int, pero la arista negativa devuelve 0 al rango.
+        int inf = Integer.MAX_VALUE;
+        int[][] graph = {
+            {0,   inf, inf,     inf},
+            {-10, 0,   inf,     inf},
+            {inf, 5,   0,       inf},
+            {inf, inf, inf - 1, 0}
+        };
+
+        Johnson johnson = new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)));
+        johnson.compute();
+
+        assertEquals(inf, johnson.getDistance(3, 1));
+        assertEquals(inf - 6, johnson.getDistance(3, 0));
+        assertEquals(Arrays.asList(3, 2, 1, 0), johnson.getPath(3, 0));
+    }
+
+    @Test
+    public void testNegativeCycleIsRejected() {
+        int inf = Integer.MAX_VALUE;
+        int[][] graph = {
+            {0, 1, inf},
+            {inf, 0, -3},
+            {1, inf, 0}
+        };
+        Johnson johnson = new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)));
+        assertThrows(IllegalStateException.class, johnson::compute);
+    }
+
+    @Test
+    public void testFromGraphUsesRequestedOrder() {
+        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(3);
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        graph.addEdge("A", "B", 2);
+        graph.addEdge("B", "C", 3);
+
+        Johnson johnson = new Johnson(CsrGraph.fromGraph(graph, new String[] {"C", "B", "A"}));
+        johnson.compute();
+
+        assertEquals(5, johnson.getDistance(2, 0));
+        assertEquals(Arrays.asList(2, 1, 0), johnson.getPath(2, 0));
+        assertNull(johnson.getPath(0, 2));
+    }
+
+    @Test
+    public void testEngineChoiceByDensity() {
+        int[][] sparse = TestFloyd.randomGraph(200, 0.01, 1);
+        int[][] dense = TestFloyd.randomGraph(50, 0.9, 1);
+
+        assertTrue(ShortestPaths.forWeights(HeapIntMatrix.copyOf(sparse)) instanceof Johnson);
+        assertTrue(ShortestPaths.forWeights(HeapIntMatrix.copyOf(dense)) instanceof Floyd);
+    }
+
+    @Test
+    public void testEngineChoiceAgreesOnDiagonal() {
+        int[][] sparse = TestFloyd.randomGraph(200, 0.01, 2);
+        int[][] dense = TestFloyd.randomGraph(50, 0.9, 2);
+
+        for (int[][] graph : new int[][][] {sparse, dense}) {
+            int[][] noDiagonal = new int[graph.length][];
+            for (int i = 0; i < graph.length; i++) {
+                noDiagonal[i] = graph[i].clone();
+                noDiagonal[i][i] = Integer.MAX_VALUE;
+            }
+
+            ShortestPaths engine = ShortestPaths.forWeights(HeapIntMatrix.copyOf(noDiagonal));
+            engine.compute();
+            Floyd floyd = new Floyd(HeapIntMatrix.copyOf(graph));
+            floyd.compute();
+
+            for (int i = 0; i < graph.length; i++) {
+                assertEquals(0, engine.getDistance(i, i));
+                for (int j = 0; j < graph.length; j++) {
+                    assertEquals(floyd.getDistance(i, j), engine.getDistance(i, j));
+                }
+            }
+        }
+    }
+
+    private static long[] bellmanFord(int[][] graph, int source) {
+        int n = graph.length;
+        long[] dist = new long[n];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        dist[source] = 0;
+        for (int round = 0; round < n; round++) {
+            for (int u = 0; u < n; u++) {
+                if (dist[u] == Long.MAX_VALUE) continue;
+                for (int v = 0; v < n; v++) {
+                    if (u != v && graph[u][v] != Integer.MAX_VALUE && dist[u] + graph[u][v] < dist[v]) {
+                        dist[v] = dist[u] + graph[u][v];
+                    }
+                }
+            }
+        }
+        return dist;
+    }
+}
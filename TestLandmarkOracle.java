@@ -0,0 +1,91 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el oráculo de distancias con landmarks.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class TestLandmarkOracle {
+
+    @Test
+    public void testBoundsContainRealDistance() {
+        int[][] graph = TestFloyd.randomGraph(60, 0.05, 14);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+        LandmarkOracle oracle = new LandmarkOracle(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 4);
+
+        for (int u = 0; u < graph.length; u++) {
+            for (int v = 0; v < graph.length; v++) {
+                int d = floyd.getDistance(u, v);
+                LandmarkOracle.Estimate estimate = oracle.estimate(u, v);
+                if (u == v) continue;
+                if (d == Integer.MAX_VALUE) {
+                    assertFalse(estimate.isReachable());
+                } else {
+                    assertTrue(estimate.getLower() <= d);
+                    assertTrue(estimate.getUpper() >= d);
+                    if (estimate.isExact()) assertEquals(d, estimate.getUpper());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testExactQueriesMatchFloyd() {
+        int[][] graph = TestFloyd.randomGraph(50, 0.06, 3);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+        LandmarkOracle oracle = new LandmarkOracle(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 3);
+
+        for (int u = 0; u < graph.length; u++) {
+            for (int v = 0; v < graph.length; v++) {
+                int d = floyd.getDistance(u, v);
+                if (u == v) continue;
+                assertEquals(d, oracle.exactDistance(u, v));
+
+                LandmarkOracle.Estimate refined = oracle.getDistance(u, v, 1.0);
+                assertTrue(refined.isExact());
+                assertEquals(d == Integer.MAX_VALUE ? Dijkstra.UNREACHABLE : d, refined.getUpper());
+
+                List<Integer> path = oracle.getPath(u, v);
+                assertEquals(d == Integer.MAX_VALUE, path == null);
+                if (path != null) {
+                    long length = 0;
+                    for (int h = 1; h < path.size(); h++) {
+                        int w = graph[path.get(h - 1)][path.get(h)];
+                        assertNotEquals(Integer.MAX_VALUE, w);
+                        length += w;
+                    }
+                    assertEquals(d, length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTransposeReversesEdges() {
+        int[][] graph = TestFloyd.randomGraph(20, 0.2, 5);
+        CsrGraph csr = CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph));
+        CsrGraph reverse = csr.transpose();
+        assertEquals(csr.edgeCount(), reverse.edgeCount());
+
+        for (int v = 0; v < graph.length; v++) {
+            for (int e = reverse.firstEdge(v); e < reverse.endEdge(v); e++) {
+                assertEquals(graph[reverse.target(e)][v], reverse.weight(e));
+            }
+        }
+    }
+
+    @Test
+    public void testBudgetLimitsLandmarks() {
+        CsrGraph csr = CsrGraph.fromMatrix(HeapIntMatrix.copyOf(TestFloyd.randomGraph(100, 0.05, 1)));
+        LandmarkOracle oracle = LandmarkOracle.withBudget(csr, 3 * LandmarkOracle.bytesPerLandmark(100));
+        assertEquals(3, oracle.getLandmarks().length);
+        assertEquals(3 * LandmarkOracle.bytesPerLandmark(100), oracle.getTableBytes());
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el histograma de latencias.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestLatencyHistogram {
+
+    @Test
+    public void testPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100000; v++) {
+            histogram.record(v);
+        }
+
+        assertEquals(100000, histogram.getCount());
+        assertEquals(100000, histogram.getMax());
+        assertEquals(50000.5, histogram.getMean(), 1e-9);
+        for (double p : new double[] {10, 50, 90, 99, 99.9}) {
+            long expected = (long) Math.ceil(p * 1000);
+            long reported = histogram.getValueAtPercentile(p);
+            assertTrue(reported >= expected, "percentil " + p);
+            assertTrue(reported <= expected * 1.04, "percentil " + p);
+        }
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(3, histogram.getValueAtPercentile(50));
+        assertEquals(7, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testBucketsCoverWholeRange() {
+        long previous = -1;
+        for (int b = 0; b < 1888; b++) {
+            long upper = LatencyHistogram.upperBound(b);
+            assertTrue(upper > previous);
+            assertEquals(b, LatencyHistogram.bucketOf(upper));
+            previous = upper;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para las consultas bajo demanda.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+
+public class TestLazyShortestPaths {
+
+    @Test
+    public void testMatchesFloyd() {
+        int[][] graph = TestFloyd.randomGraph(30, 0.1, 8);
+        Floyd floyd = new Floyd(graph);
+        floyd.compute();
+        LazyShortestPaths lazy = new LazyShortestPaths(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 1 << 20);
+
+        for (int i = 0; i < graph.length; i++) {
+            for (int j = 0; j < graph.length; j++) {
+                assertEquals(floyd.getDistance(i, j), lazy.getDistance(i, j));
+                assertEquals(floyd.getPath(i, j) == null, lazy.getPath(i, j) == null);
+            }
+        }
+    }
+
+    @Test
+    public void testPathThroughVertexBeyondIntRange() {
+        int inf = Integer.MAX_VALUE;
+        int[][] graph = {
+            {0,   inf, inf,     inf},
+            {-10, 0,   inf,     inf},
+            {inf, 5,   0,       inf},
+            {inf, inf, inf - 1, 0}
+        };
+        LazyShortestPaths lazy = new LazyShortestPaths(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 1 << 20);
+
+        assertEquals(inf, lazy.getDistance(3, 1));
+        assertEquals(inf - 6, lazy.getDistance(3, 0));
+        assertEquals(Arrays.asList(3, 2, 1, 0), lazy.getPath(3, 0));
+    }
+
+    @Test
+    public void testRepeatedOriginIsServedFromCache() {
+        int[][] graph = TestFloyd.randomGraph(20, 0.2, 2);
+        LazyShortestPaths lazy = new LazyShortestPaths(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 1 << 20);
+
+        lazy.getDistance(3, 5);
+        lazy.getPath(3, 7);
+        lazy.getDistance(3, 9);
+
+        assertEquals(1, lazy.getMisses());
+        assertEquals(2, lazy.getHits());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedTreeIsEvicted() {
+        int[][] graph = TestFloyd.randomGraph(20, 0.2, 2);
+        LazyShortestPaths lazy = new LazyShortestPaths(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(graph)), 0);
+        assertEquals(1, lazy.getCapacity());
+
+        lazy.getDistance(0, 1);
+        lazy.getDistance(1, 0);
+        lazy.getDistance(0, 2);
+
+        assertEquals(3, lazy.getMisses());
+        assertEquals(0, lazy.getHits());
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para Floyd lexicográfico y las franjas horarias.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.*;
+
+public class TestLexFloyd {
+
+    @Test
+    public void testPackAndAdd() {
+        long a = LexFloyd.pack(3, 10);
+        long b = LexFloyd.pack(4, 1);
+        assertEquals(7, LexFloyd.time(LexFloyd.add(a, b)));
+        assertEquals(11, LexFloyd.cost(LexFloyd.add(a, b)));
+        assertTrue(LexFloyd.pack(3, 99) < LexFloyd.pack(4, 0));
+        assertTrue(LexFloyd.pack(3, 1) < LexFloyd.pack(3, 2));
+        assertEquals(LexFloyd.INF, LexFloyd.add(a, LexFloyd.INF));
+        assertEquals(LexFloyd.INF, LexFloyd.add(LexFloyd.pack(Integer.MAX_VALUE - 1, 0), b));
+        assertEquals(LexFloyd.INF, LexFloyd.add(a, LexFloyd.pack(0, Integer.MAX_VALUE - 5)));
+        assertThrows(IllegalArgumentException.class, () -> LexFloyd.pack(-1, 0));
+    }
+
+    @Test
+    public void testCostBreaksTimeTies() {
+        int INF = Integer.MAX_VALUE;
+        int[][] time = {
+            {0, 5, 5, INF},
+            {INF, 0, INF, 5},
+            {INF, INF, 0, 5},
+            {INF, INF, INF, 0}
+        };
+        int[][] cost = {
+            {0, 9, 1, INF},
+            {INF, 0, INF, 9},
+            {INF, INF, 0, 1},
+            {INF, INF, INF, 0}
+        };
+        LexFloyd floyd = new LexFloyd(HeapIntMatrix.copyOf(time), HeapIntMatrix.copyOf(cost));
+        floyd.compute();
+
+        assertEquals(10, floyd.getTime(0, 3));
+        assertEquals(2, floyd.getCost(0, 3));
+        assertEquals(Arrays.asList(0, 2, 3), floyd.getPath(0, 3));
+        assertNull(floyd.getPath(3, 0));
+        assertEquals(Integer.MAX_VALUE, floyd.getTime(3, 0));
+    }
+
+    @Test
+    public void testTimeMatchesFloydAndCostIsMinimalAmongFastest() {
+        int n = 12;
+        int[][] time = TestFloyd.randomGraph(n, 0.3, 4);
+        int[][] cost = new int[n][n];
+        Random random = new Random(8);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                cost[i][j] = time[i][j] == Integer.MAX_VALUE ? Integer.MAX_VALUE : (i == j ? 0 : random.nextInt(10));
+                if (time[i][j] != Integer.MAX_VALUE && i != j) time[i][j] = 1 + time[i][j] % 3;
+            }
+        }
+
+        Floyd byTime = new Floyd(time);
+        byTime.compute();
+        LexFloyd lex = new LexFloyd(HeapIntMatrix.copyOf(time), HeapIntMatrix.copyOf(cost));
+        lex.compute();
+
+        // Floyd sobre el peso combinado time * M + cost da el mismo orden lexicográfico si M supera cualquier costo.
+        int M = 1000;
+        int[][] combined = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                combined[i][j] = time[i][j] == Integer.MAX_VALUE ? Integer.MAX_VALUE : time[i][j] * M + cost[i][j];
+            }
+        }
+        Floyd byCombined = new Floyd(combined);
+        byCombined.compute();
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                assertEquals(byTime.getDistance(i, j), lex.getTime(i, j));
+                int d = byCombined.getDistance(i, j);
+                if (d != Integer.MAX_VALUE) {
+                    assertEquals(d % M, lex.getCost(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBucketsAreSelectedByTimeOfDay() {
+        GraphMatrixDirected<String, int[]> graph = new GraphMatrixDirected<>(3);
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+        // Etiqueta: {tiempo de noche, tiempo en hora pico, costo}.
+        graph.addEdge("A", "C", new int[] {10, 40, 1});
+        graph.addEdge("A", "B", new int[] {10, 12, 2});
+        graph.addEdge("B", "C", new int[] {10, 12, 2});
+
+        int[] starts = {0, 7 * 60, 9 * 60};
+        TimeBucketedRoutes routes = TimeBucketedRoutes.fromGraph(graph, new String[] {"A", "B", "C"}, starts,
+                (label, bucket) -> LexFloyd.pack(bucket == 1 ? label[1] : label[0], label[2]));
+        routes.compute(2);
+
+        assertEquals(0, routes.bucketOf(3 * 60));
+        assertEquals(1, routes.bucketOf(8 * 60));
+        assertEquals(2, routes.bucketOf(23 * 60));
+        assertEquals(Arrays.asList(0, 2), routes.at(23 * 60).getPath(0, 2));
+        assertEquals(Arrays.asList(0, 1, 2), routes.at(8 * 60).getPath(0, 2));
+        assertEquals(24, routes.at(8 * 60).getTime(0, 2));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el cálculo de Floyd repartido entre trabajadores.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class TestPartitionedFloyd {
+
+    @Test
+    public void testThreadWorkersMatchComputeBlocked() throws Exception {
+        int n = 53;
+        int[][] graph = TestFloyd.randomGraph(n, 0.1, 22);
+        Floyd expected = new Floyd(graph);
+        expected.computeBlocked(8);
+
+        for (int workers : new int[] {1, 2, 3, 4}) {
+            Floyd actual = new PartitionedFloyd(8, workers).computeInThreads(HeapIntMatrix.copyOf(graph));
+            TestFloyd.assertSameDistances(expected, actual, n);
+            TestFloyd.assertSamePaths(expected, actual, n);
+        }
+    }
+
+    @Test
+    public void testMoreWorkersThanBlocks() throws Exception {
+        int n = 10;
+        int[][] graph = TestFloyd.randomGraph(n, 0.3, 5);
+        Floyd expected = new Floyd(graph);
+        expected.compute();
+
+        Floyd actual = new PartitionedFloyd(6, 9).computeInThreads(HeapIntMatrix.copyOf(graph));
+        TestFloyd.assertSameDistances(expected, actual, n);
+        TestFloyd.assertValidPaths(actual, graph);
+    }
+
+    @Test
+    public void testProcessWorkers() throws Exception {
+        int n = 30;
+        int[][] graph = TestFloyd.randomGraph(n, 0.15, 17);
+        Floyd expected = new Floyd(graph);
+        expected.computeBlocked(7);
+
+        Floyd actual = new PartitionedFloyd(7, 2).computeInProcesses(HeapIntMatrix.copyOf(graph));
+        TestFloyd.assertSameDistances(expected, actual, n);
+        TestFloyd.assertSamePaths(expected, actual, n);
+    }
+
+    @Test
+    public void testDeadProcessWorkerFailsFast() {
+        int[][] graph = TestFloyd.randomGraph(10, 0.3, 4);
+        long start = System.nanoTime();
+
+        IOException e = assertThrows(IOException.class, () -> new PartitionedFloyd(5, 2)
+                .computeInProcesses(HeapIntMatrix.copyOf(graph), "classpath-inexistente"));
+        assertTrue(e.getMessage().contains("código"));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para el servidor de consultas de rutas.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TestRouteServer {
+    private static final int INF = Integer.MAX_VALUE;
+    private static final String[] NAMES = {"A", "B", "C", "D", "E"};
+
+    private static int[][] routes() {
+        return new int[][] {
+            {0,   3,   INF, 7,   INF},
+            {INF, 0,   1,   INF, 8},
+            {INF, INF, 0,   2,   INF},
+            {INF, INF, INF, 0,   3},
+            {4,   INF, INF, INF, 0}
+        };
+    }
+
+    private static String get(RouteServer server, String query, int expectedStatus) throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), query);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setReadTimeout(10_000);
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream in = expectedStatus == 200 ? connection.getInputStream() : connection.getErrorStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @Test
+    public void testAnswersQueries() throws Exception {
+        RouteSnapshot snapshot = RouteSnapshot.compute(HeapIntMatrix.copyOf(routes()), NAMES, 1);
+        RouteServer server = new RouteServer(snapshot, 0, 2);
+        server.start();
+        try {
+            assertTrue(server.getAddress().getAddress().isLoopbackAddress());
+            assertEquals("A B C D\n6", get(server, "/path?from=A&to=D", 200));
+            assertEquals("9", get(server, "/distance?from=A&to=E", 200));
+            assertEquals(snapshot.getCenter(), get(server, "/center", 200));
+            get(server, "/distance?from=A&to=Z", 404);
+            get(server, "/distance?from=A", 400);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testUpdateSwapsSnapshot() throws Exception {
+        RouteServer server = new RouteServer(RouteSnapshot.compute(HeapIntMatrix.copyOf(routes()), NAMES, 1), 0, 2);
+        server.start();
+        try {
+            int[][] changed = routes();
+            changed[0][3] = 1;
+            RouteSnapshot published = server.update(HeapIntMatrix.copyOf(changed), NAMES).get();
+
+            assertEquals(2, published.getVersion());
+            assertSame(published, server.snapshot());
+            assertEquals("A D", get(server, "/path?from=A&to=D", 200).split("\n")[0]);
+            assertEquals("4", get(server, "/distance?from=A&to=E", 200));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testOlderSnapshotIsNotPublished() throws Exception {
+        RouteSnapshot newer = RouteSnapshot.compute(HeapIntMatrix.copyOf(routes()), NAMES, 5);
+        RouteServer server = new RouteServer(newer, 0, 1);
+        try {
+            RouteSnapshot older = RouteSnapshot.compute(HeapIntMatrix.copyOf(routes()), NAMES, 3);
+            assertSame(newer, server.publish(older));
+            assertSame(newer, server.snapshot());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testUnexpectedErrorReturns500() throws Exception {
+        Floyd computed = new Floyd(routes());
+        computed.compute();
+        AtomicBoolean broken = new AtomicBoolean();
+        IntMatrix dist = computed.distances();
+        IntMatrix failing = new IntMatrix() {
+            public int size() { return dist.size(); }
+            public int get(int i, int j) {
+                if (broken.get()) throw new IllegalStateException("matriz no disponible");
+                return dist.get(i, j);
+            }
+            public void set(int i, int j, int value) { dist.set(i, j, value); }
+            public IntMatrix allocate(int size) { return dist.allocate(size); }
+        };
+
+        RouteServer server = new RouteServer(RouteSnapshot.of(new Floyd(failing, computed.successors()), NAMES, 1), 0, 1);
+        server.start();
+        try {
+            broken.set(true);
+            assertEquals("Error interno", get(server, "/distance?from=A&to=E", 500));
+            broken.set(false);
+            assertEquals("9", get(server, "/distance?from=A&to=E", 200));
+        } finally {
+            server.stop();
+        }
+    }
+}
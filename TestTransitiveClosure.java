@@ -0,0 +1,75 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Pruebas unitarias para la clausura transitiva con filas de bits.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTransitiveClosure {
+
+    @Test
+    public void testMatchesFloydReachability() {
+        for (int n : new int[] {1, 63, 64, 130}) {
+            int[][] graph = TestFloyd.randomGraph(n, 3.0 / Math.max(n, 1), n);
+            Floyd floyd = new Floyd(graph);
+            floyd.compute();
+            TransitiveClosure closure = new TransitiveClosure(HeapIntMatrix.copyOf(graph));
+            closure.compute();
+            TransitiveClosure parallel = new TransitiveClosure(HeapIntMatrix.copyOf(graph));
+            parallel.computeParallel(3);
+
+            for (int i = 0; i < n; i++) {
+                int count = 0;
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    boolean reachable = floyd.getDistance(i, j) != Integer.MAX_VALUE;
+                    assertEquals(reachable, closure.canReach(i, j), i + "->" + j);
+                    assertEquals(closure.canReach(i, j), parallel.canReach(i, j));
+                    if (reachable) count++;
+                }
+                assertEquals(count + (closure.canReach(i, i) ? 1 : 0), closure.reachableCount(i));
+            }
+        }
+    }
+
+    @Test
+    public void testStronglyConnectedComponents() {
+        int INF = Integer.MAX_VALUE;
+        int[][] graph = {
+            {0, 1, INF, INF, INF},
+            {INF, 0, 1, INF, INF},
+            {1, INF, 0, 1, INF},
+            {INF, INF, INF, 0, 1},
+            {INF, INF, INF, 1, 0}
+        };
+        TransitiveClosure closure = new TransitiveClosure(HeapIntMatrix.copyOf(graph));
+        closure.compute();
+
+        assertEquals(2, closure.componentCount());
+        assertEquals(0, closure.componentOf(2));
+        assertEquals(1, closure.componentOf(4));
+        assertTrue(closure.canReach(1, 4));
+        assertFalse(closure.canReach(3, 0));
+        assertEquals(3, closure.nextReachable(3, 0));
+        assertEquals(-1, closure.nextReachable(4, 5));
+    }
+
+    @Test
+    public void testGraphCenterWithClosureMatchesFloyd() {
+        for (long seed = 0; seed < 6; seed++) {
+            int n = 40;
+            int[][] graph = TestFloyd.randomGraph(n, 0.04, seed);
+            Floyd floyd = new Floyd(graph);
+            floyd.compute();
+            TransitiveClosure closure = new TransitiveClosure(HeapIntMatrix.copyOf(graph));
+            closure.compute();
+
+            String[] names = TestFloyd.names(n);
+            assertEquals(floyd.findGraphCenter(names), floyd.findGraphCenter(names, closure));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Rutas precalculadas por franja horaria, seleccionables al consultar.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Conjunto pequeño de resultados de LexFloyd, uno por franja horaria (por ejemplo hora pico y noche).
+ * Todas las franjas se calculan de antemano en paralelo; al consultar solo se elige la matriz de la franja
+ * que corresponde a la hora, sin recalcular nada.
+ */
+public class TimeBucketedRoutes {
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int[] startMinutes;
+    private final LexFloyd[] buckets;
+
+    /**
+     * Función que obtiene el peso empaquetado de una arista en una franja.
+     */
+    @FunctionalInterface
+    public interface BucketWeight<E> {
+        /**
+         * @param label Etiqueta de la arista.
+         * @param bucket Índice de la franja.
+         * @return Peso empaquetado con LexFloyd.pack(), o LexFloyd.INF si la arista no se usa en esa franja.
+         */
+        long weight(E label, int bucket);
+    }
+
+    /**
+     * Constructor que agrupa resultados sin calcular, uno por franja.
+     * @param startMinutes Minuto del día (0..1439) en que empieza cada franja, en orden creciente
+     *                     y empezando en 0.
+     * @param buckets Resultado de cada franja (todos del mismo tamaño).
+     */
+    public TimeBucketedRoutes(int[] startMinutes, LexFloyd[] buckets) {
+        if (startMinutes.length == 0 || startMinutes.length != buckets.length) {
+            throw new IllegalArgumentException("Debe haber una hora de inicio por cada franja");
+        }
+        if (startMinutes[0] != 0) {
+            throw new IllegalArgumentException("La primera franja debe empezar en el minuto 0");
+        }
+        for (int b = 1; b < startMinutes.length; b++) {
+            if (startMinutes[b] <= startMinutes[b - 1] || startMinutes[b] >= MINUTES_PER_DAY) {
+                throw new IllegalArgumentException("Las horas de inicio deben ser crecientes y menores a 1440");
+            }
+            if (buckets[b].size() != buckets[0].size()) {
+                throw new IllegalArgumentException("Todas las franjas deben tener el mismo número de vértices");
+            }
+        }
+        this.startMinutes = startMinutes.clone();
+        this.buckets = buckets.clone();
+    }
+
+    /**
+     * Método que prepara las franjas a partir de las etiquetas de las aristas de un grafo.
+     * @param graph Grafo de origen.
+     * @param order Etiquetas de los vértices; order[i] pasa a ser el índice i.
+     * @param startMinutes Minuto del día en que empieza cada franja.
+     * @param weight Peso de cada arista en cada franja.
+     * @return Franjas sin calcular.
+     */
+    public static <V, E> TimeBucketedRoutes fromGraph(GraphMatrixDirected<V, E> graph, V[] order,
+                                                      int[] startMinutes, BucketWeight<? super E> weight) {
+        LexFloyd[] buckets = new LexFloyd[startMinutes.length];
+        for (int b = 0; b < buckets.length; b++) {
+            final int bucket = b;
+            buckets[b] = new LexFloyd(order.length,
+                    LexFloyd.weightsOf(graph, order, label -> weight.weight(label, bucket)));
+        }
+        return new TimeBucketedRoutes(startMinutes, buckets);
+    }
+
+    /**
+     * Método que calcula todas las franjas, cada una en un hilo.
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public void compute(int parallelism) {
+        ForkJoinPool pool = Floyd.createPool(parallelism);
+        try {
+            Floyd.runParallel(pool, buckets.length, b -> buckets[b].compute());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Método que devuelve el número de franjas.
+     * @return Número de franjas.
+     */
+    public int bucketCount() {
+        return buckets.length;
+    }
+
+    /**
+     * Método que devuelve la franja a la que pertenece un minuto del día.
+     * @param minuteOfDay Minuto del día (0..1439).
+     * @return Índice de la franja.
+     */
+    public int bucketOf(int minuteOfDay) {
+        if (minuteOfDay < 0 || minuteOfDay >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("El minuto del día debe estar entre 0 y 1439");
+        }
+        int b = startMinutes.length - 1;
+        while (startMinutes[b] > minuteOfDay) {
+            b--;
+        }
+        return b;
+    }
+
+    /**
+     * Método que devuelve el resultado de una franja.
+     * @param bucket Índice de la franja.
+     * @return Resultado de esa franja.
+     */
+    public LexFloyd bucket(int bucket) {
+        return buckets[bucket];
+    }
+
+    /**
+     * Método que devuelve el resultado que corresponde a una hora del día.
+     * @param minuteOfDay Minuto del día (0..1439).
+     * @return Resultado de la franja de esa hora.
+     */
+    public LexFloyd at(int minuteOfDay) {
+        return buckets[bucketOf(minuteOfDay)];
+    }
+}
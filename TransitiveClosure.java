@@ -0,0 +1,175 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Clausura transitiva (algoritmo de Warshall) con filas empaquetadas en bits.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *  Fuentes: algoritmo de Warshall sobre filas de bits (OR de palabras de 64 bits)
+ */
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Responde "¿se puede llegar de i a j?" sin distancias ni siguientes. Cada fila es un long[] de bits,
+ * así que la matriz ocupa 1/32 de la de Floyd y el paso k de Warshall se reduce a OR de palabras:
+ * si i alcanza k, la fila de i absorbe la fila de k.
+ * Con la clausura se obtienen también las componentes fuertemente conexas (i y j están en la misma
+ * si cada uno alcanza al otro).
+ */
+public class TransitiveClosure {
+    private final long[][] reach;
+    private final int V;
+    private final int words;
+    private int[] component;
+    private int componentCount;
+
+    /**
+     * Constructor que toma las aristas de una matriz de pesos: hay arista i -> j si i != j y
+     * el peso es distinto de Integer.MAX_VALUE.
+     * @param weights Matriz de pesos (no se modifica).
+     */
+    public TransitiveClosure(IntMatrix weights) {
+        this.V = weights.size();
+        this.words = (V + 63) >>> 6;
+        this.reach = new long[V][words];
+
+        for (int i = 0; i < V; i++) {
+            long[] row = reach[i];
+            for (int j = 0; j < V; j++) {
+                if (i != j && weights.get(i, j) != Integer.MAX_VALUE) {
+                    row[j >>> 6] |= 1L << j;
+                }
+            }
+        }
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Warshall.
+     */
+    public void compute() {
+        for (int k = 0; k < V; k++) {
+            for (int i = 0; i < V; i++) {
+                absorb(i, k);
+            }
+        }
+        component = null;
+    }
+
+    /**
+     * Método que ejecuta el algoritmo de Warshall repartiendo las filas de cada paso k entre varios hilos.
+     * Durante el paso k la fila k no cambia (absorberse a sí misma no la modifica), así que las demás
+     * filas son independientes y el resultado es idéntico al de compute().
+     * @param parallelism Número máximo de hilos a utilizar.
+     */
+    public void computeParallel(int parallelism) {
+        ForkJoinPool pool = Floyd.createPool(parallelism);
+        try {
+            for (int k = 0; k < V; k++) {
+                final int pivot = k;
+                Floyd.runParallel(pool, V, i -> absorb(i, pivot));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        component = null;
+    }
+
+    private void absorb(int i, int k) {
+        long[] row = reach[i];
+        if ((row[k >>> 6] & (1L << k)) == 0) return;
+        long[] pivot = reach[k];
+        for (int w = 0; w < words; w++) {
+            row[w] |= pivot[w];
+        }
+    }
+
+    /**
+     * Método que devuelve el número de vértices.
+     * @return Número de vértices.
+     */
+    public int size() {
+        return V;
+    }
+
+    /**
+     * Método que indica si hay un camino de al menos una arista de i a j.
+     * @param i Índice del origen.
+     * @param j Índice del destino.
+     * @return true si j es alcanzable desde i.
+     */
+    public boolean canReach(int i, int j) {
+        return (reach[i][j >>> 6] & (1L << j)) != 0;
+    }
+
+    /**
+     * Método que devuelve el siguiente vértice alcanzable desde i, como BitSet.nextSetBit().
+     * @param i Índice del origen.
+     * @param from Primer índice a considerar.
+     * @return Menor j &gt;= from alcanzable desde i, o -1 si no hay.
+     */
+    public int nextReachable(int i, int from) {
+        if (from >= V) return -1;
+        long[] row = reach[i];
+        int w = from >>> 6;
+        long word = row[w] & (-1L << from);
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w == words) return -1;
+            word = row[w];
+        }
+    }
+
+    /**
+     * Método que cuenta los vértices alcanzables desde i (incluido i solo si está en un ciclo).
+     * @param i Índice del origen.
+     * @return Número de vértices alcanzables.
+     */
+    public int reachableCount(int i) {
+        int count = 0;
+        for (long word : reach[i]) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Método que devuelve la componente fuertemente conexa de un vértice (después de compute()).
+     * Las componentes se numeran en el orden de su vértice de menor índice.
+     * @param i Índice del vértice.
+     * @return Número de componente.
+     */
+    public int componentOf(int i) {
+        return components()[i];
+    }
+
+    /**
+     * Método que devuelve el número de componentes fuertemente conexas.
+     * @return Número de componentes.
+     */
+    public int componentCount() {
+        components();
+        return componentCount;
+    }
+
+    private int[] components() {
+        if (component != null) return component;
+
+        int[] result = new int[V];
+        Arrays.fill(result, -1);
+        int count = 0;
+        for (int i = 0; i < V; i++) {
+            if (result[i] >= 0) continue;
+            result[i] = count;
+            for (int j = nextReachable(i, i + 1); j >= 0; j = nextReachable(i, j + 1)) {
+                if (result[j] < 0 && canReach(j, i)) {
+                    result[j] = count;
+                }
+            }
+            count++;
+        }
+        componentCount = count;
+        component = result;
+        return result;
+    }
+}
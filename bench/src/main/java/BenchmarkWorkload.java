@@ -0,0 +1,166 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Implementación de las operaciones medidas por los benchmarks JMH.
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ */
+
+import floyd.bench.Workload;
+import java.util.*;
+
+public class BenchmarkWorkload implements Workload {
+    private int n;
+    private int[][] weights;
+    private int[] edgeFrom;
+    private int[] edgeTo;
+    private int[] edgeWeight;
+    private String[] names;
+    private Floyd floyd;
+
+    @Override
+    public void generate(int vertices, double density, long seed) {
+        Random random = new Random(seed);
+        n = vertices;
+        weights = new int[n][n];
+        names = new String[n];
+        int[] from = new int[16];
+        int[] to = new int[16];
+        int[] weight = new int[16];
+        int edges = 0;
+
+        for (int i = 0; i < n; i++) {
+            names[i] = "S" + i;
+            Arrays.fill(weights[i], Integer.MAX_VALUE);
+            weights[i][i] = 0;
+            for (int j = 0; j < n; j++) {
+                if (i == j || random.nextDouble() >= density) continue;
+                int w = 1 + random.nextInt(100);
+                weights[i][j] = w;
+                if (edges == from.length) {
+                    from = Arrays.copyOf(from, edges * 2);
+                    to = Arrays.copyOf(to, edges * 2);
+                    weight = Arrays.copyOf(weight, edges * 2);
+                }
+                from[edges] = i;
+                to[edges] = j;
+                weight[edges++] = w;
+            }
+        }
+
+        edgeFrom = Arrays.copyOf(from, edges);
+        edgeTo = Arrays.copyOf(to, edges);
+        edgeWeight = Arrays.copyOf(weight, edges);
+    }
+
+    @Override
+    public void resetFloyd() {
+        floyd = new Floyd(weights);
+    }
+
+    @Override
+    public void compute() {
+        floyd.compute();
+    }
+
+    @Override
+    public void computeBlocked(int blockSize) {
+        floyd.computeBlocked(blockSize);
+    }
+
+    @Override
+    public void mixBackends(int blockSize) {
+        OffHeapIntMatrix offHeap = new OffHeapIntMatrix(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                offHeap.set(i, j, weights[i][j]);
+            }
+        }
+        new Floyd(offHeap).computeBlocked(blockSize);
+
+        Floyd narrow = new Floyd(weights);
+        narrow.compressPaths();
+        narrow.computeBlocked(blockSize);
+    }
+
+    @Override
+    public void computeParallel(int parallelism) {
+        floyd.computeParallel(parallelism);
+    }
+
+    @Override
+    public void computeVectorized() {
+        floyd.computeVectorized();
+    }
+
+    @Override
+    public void computeJohnson() {
+        new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(weights))).compute();
+    }
+
+    @Override
+    public void solveWithJohnson() {
+        Johnson johnson = new Johnson(CsrGraph.fromMatrix(HeapIntMatrix.copyOf(weights)));
+        johnson.compute();
+        floyd = johnson.computed();
+    }
+
+    @Override
+    public int analytics(int parallelism) {
+        return new GraphAnalytics(floyd, parallelism).getRadius();
+    }
+
+    @Override
+    public long betweenness(int parallelism) {
+        long total = 0;
+        for (long b : new GraphAnalytics(floyd, parallelism).getBetweenness()) {
+            total += b;
+        }
+        return total;
+    }
+
+    @Override
+    public int path(int i, int j) {
+        List<Integer> path = floyd.getPath(i, j);
+        return path == null ? 0 : path.size();
+    }
+
+    @Override
+    public int distance(int i, int j) {
+        return floyd.getDistance(i, j);
+    }
+
+    @Override
+    public String center() {
+        return floyd.findGraphCenter(names);
+    }
+
+    @Override
+    public Object buildGraph() {
+        GraphMatrixDirected<String, Integer> graph = new GraphMatrixDirected<>(n);
+        for (String name : names) {
+            graph.addVertex(name);
+        }
+        for (int e = 0; e < edgeFrom.length; e++) {
+            graph.addEdge(names[edgeFrom[e]], names[edgeTo[e]], edgeWeight[e]);
+        }
+        return graph;
+    }
+
+    @Override
+    public Object buildIntGraph() {
+        IntGraphMatrix<String> graph = new IntGraphMatrix<>(n);
+        for (String name : names) {
+            graph.addVertex(name);
+        }
+        for (int e = 0; e < edgeFrom.length; e++) {
+            graph.addEdge(names[edgeFrom[e]], names[edgeTo[e]], edgeWeight[e]);
+        }
+        return graph;
+    }
+
+    @Override
+    public int vertices() {
+        return n;
+    }
+}
@@ -0,0 +1,47 @@
+package floyd.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Tiempo de GraphAnalytics sobre grafos grandes y dispersos. El resultado de todos los pares se obtiene
+ * con Johnson, porque Floyd sobre 10k vértices tardaría demasiado para preparar cada prueba.
+ * Las matrices de 10k vértices ocupan unos 800 MB; usar -jvmArgs -Xmx3g.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AnalyticsBenchmark {
+    @Param({"2000", "10000"})
+    public int vertices;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void solve() {
+        workload = Workload.load();
+        workload.generate(vertices, 5.0 / vertices, 42);
+        workload.solveWithJohnson();
+    }
+
+    @Benchmark
+    public int distancePass() {
+        return workload.analytics(parallelism);
+    }
+
+    @Benchmark
+    public long betweenness() {
+        return workload.betweenness(parallelism);
+    }
+
+    @Benchmark
+    public String findGraphCenter() {
+        return workload.center();
+    }
+}
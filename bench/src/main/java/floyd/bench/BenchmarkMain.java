@@ -0,0 +1,32 @@
+package floyd.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar. Acepta las mismas opciones que org.openjdk.jmh.Main
+ * (por ejemplo un filtro de benchmarks o -p vertices=500), y además siempre activa el perfilador
+ * de GC y guarda los resultados en JSON para compararlos entre versiones.
+ *
+ * Uso: java -jar target/benchmarks.jar [opciones JMH] [-rff archivo.json]
+ */
+public class BenchmarkMain {
+    private static final String DEFAULT_RESULT = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(cli.getResult().orElse(DEFAULT_RESULT))
+                .build();
+        new Runner(options).run();
+    }
+}
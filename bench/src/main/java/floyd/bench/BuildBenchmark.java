@@ -0,0 +1,39 @@
+package floyd.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Costo de construir el grafo con addVertex/addEdge.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildBenchmark {
+    @Param({"250", "1000", "2000"})
+    public int vertices;
+
+    @Param({"0.01", "0.5"})
+    public double density;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        workload = Workload.load();
+        workload.generate(vertices, density, 42);
+    }
+
+    @Benchmark
+    public Object graphMatrixDirected() {
+        return workload.buildGraph();
+    }
+
+    @Benchmark
+    public Object intGraphMatrix() {
+        return workload.buildIntGraph();
+    }
+}
@@ -0,0 +1,60 @@
+package floyd.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Costo de calcular todos los pares con cada motor. Cada invocación parte de una matriz nueva,
+ * porque compute() sobrescribe la matriz de distancias.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class ComputeBenchmark {
+    @Param({"250", "500", "1000"})
+    public int vertices;
+
+    @Param({"0.01", "0.5"})
+    public double density;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        workload = Workload.load();
+        workload.generate(vertices, density, 42);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        workload.resetFloyd();
+    }
+
+    @Benchmark
+    public void floydSequential() {
+        workload.compute();
+    }
+
+    @Benchmark
+    public void floydBlocked() {
+        workload.computeBlocked(64);
+    }
+
+    @Benchmark
+    public void floydParallel() {
+        workload.computeParallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public void floydVectorized() {
+        workload.computeVectorized();
+    }
+
+    @Benchmark
+    public void johnson() {
+        workload.computeJohnson();
+    }
+}
@@ -0,0 +1,46 @@
+package floyd.bench;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * computeBlocked() sobre HeapIntMatrix después de haber usado también OffHeapIntMatrix y NarrowIntMatrix
+ * en la misma JVM. Comparado con ComputeBenchmark.floydBlocked muestra si el bucle por bloques pierde
+ * rendimiento cuando los accesos a IntMatrix dejan de ser monomórficos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class MixedBackendBenchmark {
+    private static final int BLOCK_SIZE = 64;
+
+    @Param({"250", "500", "1000"})
+    public int vertices;
+
+    @Param({"0.01", "0.5"})
+    public double density;
+
+    private Workload workload;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        workload = Workload.load();
+        workload.generate(vertices, density, 42);
+        for (int round = 0; round < 3; round++) {
+            workload.mixBackends(BLOCK_SIZE);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        workload.resetFloyd();
+    }
+
+    @Benchmark
+    public void floydBlockedAfterMixedBackends() {
+        workload.computeBlocked(BLOCK_SIZE);
+    }
+}
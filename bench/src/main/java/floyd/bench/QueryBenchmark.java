@@ -0,0 +1,50 @@
+package floyd.bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Latencia de las consultas sobre un resultado ya calculado.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+    @Param({"250", "1000"})
+    public int vertices;
+
+    @Param({"0.01", "0.5"})
+    public double density;
+
+    private Workload workload;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void compute() {
+        workload = Workload.load();
+        workload.generate(vertices, density, 42);
+        workload.resetFloyd();
+        workload.compute();
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public int getPath() {
+        return workload.path(random.nextInt(vertices), random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public int getDistance() {
+        return workload.distance(random.nextInt(vertices), random.nextInt(vertices));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String findGraphCenter() {
+        return workload.center();
+    }
+}
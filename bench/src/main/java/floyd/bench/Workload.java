@@ -0,0 +1,96 @@
+package floyd.bench;
+
+/**
+ * Operaciones medidas por los benchmarks.
+ * Las clases del proyecto están en el paquete por defecto y no se pueden importar desde un paquete con nombre
+ * (y JMH exige que los benchmarks tengan paquete), así que se accede a ellas a través de esta interfaz,
+ * implementada por la clase BenchmarkWorkload del paquete por defecto.
+ */
+public interface Workload {
+
+    /**
+     * Genera un grafo aleatorio con pesos en [1, 100].
+     * @param vertices Número de vértices.
+     * @param density Probabilidad de que exista cada arista.
+     * @param seed Semilla del generador.
+     */
+    void generate(int vertices, double density, long seed);
+
+    /** Crea una instancia nueva de Floyd a partir del grafo generado (sin calcular). */
+    void resetFloyd();
+
+    /** Ejecuta Floyd.compute(). */
+    void compute();
+
+    /** Ejecuta Floyd.computeBlocked(blockSize). */
+    void computeBlocked(int blockSize);
+
+    /**
+     * Ejecuta computeBlocked(blockSize) sobre copias del grafo con dist fuera del heap y con next estrecho,
+     * para que los accesos a IntMatrix vean varios almacenamientos, como en una aplicación que los mezcla.
+     */
+    void mixBackends(int blockSize);
+
+    /** Ejecuta Floyd.computeParallel(parallelism). */
+    void computeParallel(int parallelism);
+
+    /** Ejecuta Floyd.computeVectorized(). */
+    void computeVectorized();
+
+    /** Ejecuta Johnson sobre la adyacencia CSR del grafo generado. */
+    void computeJohnson();
+
+    /** Calcula el resultado con Johnson y lo usa como resultado de Floyd (para grafos grandes y dispersos). */
+    void solveWithJohnson();
+
+    /**
+     * Ejecuta la pasada de GraphAnalytics sobre las distancias.
+     * @return Radio del grafo.
+     */
+    int analytics(int parallelism);
+
+    /**
+     * Calcula la intermediación con GraphAnalytics.
+     * @return Suma de las intermediaciones.
+     */
+    long betweenness(int parallelism);
+
+    /**
+     * Reconstruye el camino más corto con Floyd.getPath.
+     * @return Número de vértices del camino (0 si no hay camino).
+     */
+    int path(int i, int j);
+
+    /** Consulta Floyd.getDistance. */
+    int distance(int i, int j);
+
+    /** Ejecuta Floyd.findGraphCenter. */
+    String center();
+
+    /**
+     * Construye un GraphMatrixDirected con addVertex/addEdge a partir de la lista de aristas generada.
+     * @return El grafo construido (para que no se elimine como código muerto).
+     */
+    Object buildGraph();
+
+    /**
+     * Construye un IntGraphMatrix a partir de la lista de aristas generada.
+     * @return El grafo construido.
+     */
+    Object buildIntGraph();
+
+    /** Número de vértices del grafo generado. */
+    int vertices();
+
+    /**
+     * Carga la implementación del paquete por defecto.
+     * @return Nueva instancia de la implementación.
+     */
+    static Workload load() {
+        try {
+            return (Workload) Class.forName("BenchmarkWorkload").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("No se encontró BenchmarkWorkload en el classpath", e);
+        }
+    }
+}
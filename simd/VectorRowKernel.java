@@ -0,0 +1,56 @@
+/**
+ *  @author José Manuel Sanchez Hernández - 24092
+ *  @version 1.0
+ *  Descripción: Núcleo de relajación de Floyd con la Vector API (jdk.incubator.vector).
+ *  Fecha de creación: 18/10/2026
+ *  Fecha de última modificación: 18/10/2026
+ *
+ *  Está en una carpeta aparte porque necesita el módulo incubador para compilar y ejecutarse:
+ *      javac --add-modules jdk.incubator.vector -d out *.java simd/*.java
+ *      java --add-modules jdk.incubator.vector -cp out Main
+ *  Si no se compila o no se carga el módulo, RowKernel.best() usa el núcleo escalar.
+ */
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Versión SIMD de RowKernel. Reproduce con máscaras las mismas comprobaciones que el código escalar,
+ * incluida la resta Integer.MAX_VALUE - dist[k][j] con desbordamiento, por lo que el resultado es
+ * idéntico bit a bit y no hace falta cambiar la representación del infinito.
+ */
+public final class VectorRowKernel implements RowKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final RowKernel SCALAR = new RowKernel.Scalar();
+
+    @Override
+    public void relaxRow(int[] dist, int[] next, int rowOffset, int pivotOffset, int dik, int nik,
+                         int from, int to) {
+        IntVector infinity = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+        IntVector viaPivot = IntVector.broadcast(SPECIES, dik);
+        IntVector hop = IntVector.broadcast(SPECIES, nik);
+
+        int j = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; j < upper; j += SPECIES.length()) {
+            IntVector dkj = IntVector.fromArray(SPECIES, dist, pivotOffset + j);
+            IntVector dij = IntVector.fromArray(SPECIES, dist, rowOffset + j);
+
+            VectorMask<Integer> reachable = dkj.compare(VectorOperators.NE, Integer.MAX_VALUE)
+                    .and(viaPivot.compare(VectorOperators.LE, infinity.sub(dkj)));
+            IntVector newDist = viaPivot.add(dkj);
+            VectorMask<Integer> better = dij.compare(VectorOperators.EQ, Integer.MAX_VALUE)
+                    .or(newDist.compare(VectorOperators.LT, dij));
+            VectorMask<Integer> update = reachable.and(better);
+
+            if (update.anyTrue()) {
+                newDist.intoArray(dist, rowOffset + j, update);
+                hop.intoArray(next, rowOffset + j, update);
+            }
+        }
+
+        SCALAR.relaxRow(dist, next, rowOffset, pivotOffset, dik, nik, j, to);
+    }
+}